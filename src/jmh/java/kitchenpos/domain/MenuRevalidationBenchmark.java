@@ -0,0 +1,194 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MenuRevalidationBenchmark {
+    private static final int MENU_COUNT = 1_000;
+    private static final UUID SHARED_PRODUCT_ID = UUID.randomUUID();
+
+    private Connection connection;
+    private PreparedStatement reset;
+    private PreparedStatement findExceeding;
+    private PreparedStatement findMenus;
+    private PreparedStatement findMenuProducts;
+    private PreparedStatement hide;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1"),
+            System.getProperty("benchmark.jdbc-user", "sa"),
+            System.getProperty("benchmark.jdbc-password", "")
+        );
+        connection.setAutoCommit(false);
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists menu_product");
+            statement.execute("drop table if exists menu");
+            statement.execute("drop table if exists product");
+            statement.execute("create table product (id binary(16) not null, name varchar(255) not null,"
+                + " price decimal(19, 2) not null, primary key (id))");
+            statement.execute("create table menu (id binary(16) not null, displayed bit not null, name varchar(255) not null,"
+                + " price decimal(19, 2) not null, menu_group_id binary(16) not null, primary key (id))");
+            statement.execute("create table menu_product (seq bigint not null auto_increment, quantity bigint not null,"
+                + " product_id binary(16) not null, menu_id binary(16) not null, primary key (seq))");
+            statement.execute("create index ix_menu_product_product_id on menu_product (product_id)");
+            statement.execute("create index ix_menu_product_menu_id on menu_product (menu_id)");
+        }
+        insertFixtures();
+        connection.commit();
+        reset = connection.prepareStatement("update menu set displayed = true");
+        findExceeding = connection.prepareStatement(
+            JdbcMenuRepositoryImpl.SELECT_MENUS_EXCEEDING_PRODUCTS_PRICE.replace(":productId", "?")
+        );
+        findMenus = connection.prepareStatement("select m.id, m.price from menu m"
+            + " where m.id in (select mp.menu_id from menu_product mp where mp.product_id = ?)");
+        findMenuProducts = connection.prepareStatement("select p.price, mp.quantity from menu_product mp"
+            + " join product p on p.id = mp.product_id where mp.menu_id = ?");
+        hide = connection.prepareStatement("update menu set displayed = false where id = ?");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetDisplayed() throws SQLException {
+        reset.executeUpdate();
+        connection.commit();
+    }
+
+    @Benchmark
+    public int rowByRow() throws SQLException {
+        final List<byte[]> hidden = new ArrayList<>();
+        findMenus.setBytes(1, toBytes(SHARED_PRODUCT_ID));
+        try (final ResultSet menus = findMenus.executeQuery()) {
+            while (menus.next()) {
+                final byte[] menuId = menus.getBytes(1);
+                BigDecimal sum = BigDecimal.ZERO;
+                findMenuProducts.setBytes(1, menuId);
+                try (final ResultSet menuProducts = findMenuProducts.executeQuery()) {
+                    while (menuProducts.next()) {
+                        sum = sum.add(menuProducts.getBigDecimal(1).multiply(BigDecimal.valueOf(menuProducts.getLong(2))));
+                    }
+                }
+                if (menus.getBigDecimal(2).compareTo(sum) > 0) {
+                    hidden.add(menuId);
+                }
+            }
+        }
+        for (final byte[] menuId : hidden) {
+            hide.setBytes(1, menuId);
+            hide.executeUpdate();
+        }
+        connection.commit();
+        return hidden.size();
+    }
+
+    @Benchmark
+    public int setBased() throws SQLException {
+        final List<byte[]> ids = new ArrayList<>();
+        findExceeding.setBytes(1, toBytes(SHARED_PRODUCT_ID));
+        try (final ResultSet menus = findExceeding.executeQuery()) {
+            while (menus.next()) {
+                ids.add(menus.getBytes(1));
+            }
+        }
+        int hidden = 0;
+        if (!ids.isEmpty()) {
+            final String hideMenus = JdbcMenuRepositoryImpl.HIDE_MENUS
+                .replace(":ids", String.join(", ", Collections.nCopies(ids.size(), "?")));
+            try (final PreparedStatement hideAll = connection.prepareStatement(hideMenus)) {
+                for (int i = 0; i < ids.size(); i++) {
+                    hideAll.setBytes(i + 1, ids.get(i));
+                }
+                hidden = hideAll.executeUpdate();
+            }
+        }
+        connection.commit();
+        return hidden;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private void insertFixtures() throws SQLException {
+        try (final PreparedStatement product = connection.prepareStatement("insert into product (id, name, price) values (?, ?, ?)");
+             final PreparedStatement menu = connection.prepareStatement(
+                 "insert into menu (id, displayed, name, price, menu_group_id) values (?, true, ?, ?, ?)");
+             final PreparedStatement menuProduct = connection.prepareStatement(
+                 "insert into menu_product (quantity, product_id, menu_id) values (?, ?, ?)")) {
+            final byte[] menuGroupId = toBytes(UUID.randomUUID());
+            addProduct(product, SHARED_PRODUCT_ID, 2_000);
+            for (int i = 0; i < MENU_COUNT; i++) {
+                final UUID ownProductId = UUID.randomUUID();
+                final UUID menuId = UUID.randomUUID();
+                addProduct(product, ownProductId, 15_000);
+                menu.setBytes(1, toBytes(menuId));
+                menu.setString(2, "menu-" + i);
+                menu.setBigDecimal(3, BigDecimal.valueOf(i % 2 == 0 ? 18_000 : 20_000));
+                menu.setBytes(4, menuGroupId);
+                menu.addBatch();
+                addMenuProduct(menuProduct, menuId, ownProductId, 1);
+                addMenuProduct(menuProduct, menuId, SHARED_PRODUCT_ID, 2);
+            }
+            product.executeBatch();
+            menu.executeBatch();
+            menuProduct.executeBatch();
+        }
+    }
+
+    private static void addProduct(final PreparedStatement product, final UUID id, final long price) throws SQLException {
+        product.setBytes(1, toBytes(id));
+        product.setString(2, "product");
+        product.setBigDecimal(3, BigDecimal.valueOf(price));
+        product.addBatch();
+    }
+
+    private static void addMenuProduct(
+        final PreparedStatement menuProduct,
+        final UUID menuId,
+        final UUID productId,
+        final long quantity
+    ) throws SQLException {
+        menuProduct.setLong(1, quantity);
+        menuProduct.setBytes(2, toBytes(productId));
+        menuProduct.setBytes(3, toBytes(menuId));
+        menuProduct.addBatch();
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderTransitionsBenchmark {
+    private static final OrderAction[] DELIVERY_FLOW = {
+        OrderAction.ACCEPT, OrderAction.SERVE, OrderAction.START_DELIVERY, OrderAction.COMPLETE_DELIVERY, OrderAction.COMPLETE
+    };
+    private static final OrderAction[] EAT_IN_FLOW = {
+        OrderAction.ACCEPT, OrderAction.SERVE, OrderAction.COMPLETE
+    };
+
+    private final OrderTransitions orderTransitions = OrderTransitions.standard();
+
+    @Benchmark
+    public void transitionTable(final Blackhole blackhole) {
+        run(OrderType.DELIVERY, DELIVERY_FLOW, blackhole, true);
+        run(OrderType.EAT_IN, EAT_IN_FLOW, blackhole, true);
+    }
+
+    @Benchmark
+    public void ifChains(final Blackhole blackhole) {
+        run(OrderType.DELIVERY, DELIVERY_FLOW, blackhole, false);
+        run(OrderType.EAT_IN, EAT_IN_FLOW, blackhole, false);
+    }
+
+    private void run(final OrderType type, final OrderAction[] flow, final Blackhole blackhole, final boolean table) {
+        OrderStatus status = OrderStatus.WAITING;
+        for (final OrderAction action : flow) {
+            status = table ? orderTransitions.next(type, action, status) : ifChain(type, action, status);
+        }
+        blackhole.consume(status);
+    }
+
+    private static OrderStatus ifChain(final OrderType type, final OrderAction action, final OrderStatus status) {
+        switch (action) {
+            case ACCEPT:
+                if (status != OrderStatus.WAITING) {
+                    throw new IllegalStateException();
+                }
+                return OrderStatus.ACCEPTED;
+            case SERVE:
+                if (status != OrderStatus.ACCEPTED) {
+                    throw new IllegalStateException();
+                }
+                return OrderStatus.SERVED;
+            case START_DELIVERY:
+                if (type != OrderType.DELIVERY) {
+                    throw new IllegalStateException();
+                }
+                if (status != OrderStatus.SERVED) {
+                    throw new IllegalStateException();
+                }
+                return OrderStatus.DELIVERING;
+            case COMPLETE_DELIVERY:
+                if (status != OrderStatus.DELIVERING) {
+                    throw new IllegalStateException();
+                }
+                return OrderStatus.DELIVERED;
+            case COMPLETE:
+                if (type == OrderType.DELIVERY && status != OrderStatus.DELIVERED) {
+                    throw new IllegalStateException();
+                }
+                if ((type == OrderType.TAKEOUT || type == OrderType.EAT_IN) && status != OrderStatus.SERVED) {
+                    throw new IllegalStateException();
+                }
+                return OrderStatus.COMPLETED;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorInsertBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"RANDOM", "V7"})
+    public String generator;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = "V7".equals(generator) ? new UuidV7Generator() : UUID::randomUUID;
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1"),
+            System.getProperty("benchmark.jdbc-user", "sa"),
+            System.getProperty("benchmark.jdbc-password", "")
+        );
+        connection.setAutoCommit(false);
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists id_benchmark");
+            statement.execute("create table id_benchmark (id binary(16) not null, payload varchar(255) not null, primary key (id))");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into id_benchmark (id, payload) values (?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(idGenerator.generate()));
+            insert.setString(2, "order");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection.getMetaData().getDatabaseProductName().startsWith("MySQL")) {
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("analyze table id_benchmark");
+                try (final ResultSet resultSet = statement.executeQuery(
+                    "select data_length, index_length from information_schema.tables where table_name = 'id_benchmark'"
+                )) {
+                    if (resultSet.next()) {
+                        System.out.printf("%s data_length=%d index_length=%d%n", generator, resultSet.getLong(1), resultSet.getLong(2));
+                    }
+                }
+            }
+        }
+        insert.close();
+        connection.close();
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,78 @@
+package kitchenpos.infra;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfanityFilterBenchmark {
+    @Param({"후라이드 반 양념 반 순살 치킨 세트", "Spicy Fried Chicken with Extra Cheese Sauce"})
+    public String text;
+
+    private AhoCorasickProfanityClient ahoCorasick;
+    private List<String> words;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ClassPathResource resource = new ClassPathResource("profanity/words.txt");
+        ahoCorasick = AhoCorasickProfanityClient.load(resource);
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            words = reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(ProfanityFilterBenchmark::normalize)
+                .collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        return ahoCorasick.containsProfanity(text);
+    }
+
+    @Benchmark
+    public boolean naiveContains() {
+        final String normalized = normalize(text);
+        for (final String word : words) {
+            if (normalized.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(final String text) {
+        final StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            final char c = AhoCorasickProfanityClient.normalize(text.charAt(i));
+            if (c != AhoCorasickProfanityClient.SKIP) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader {
+    private static final int EOF = -1;
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+    private boolean started;
+
+    public CsvReader(final Reader reader, final int maxRecordLength) {
+        this.reader = new BufferedReader(reader);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public List<String> read() {
+        try {
+            return readRecord();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        if (c == EOF) {
+            return null;
+        }
+        final List<String> record = new ArrayList<>();
+        int length = 0;
+        boolean quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (++length > maxRecordLength) {
+                skipRecord(c, quoted);
+                throw new IllegalArgumentException();
+            }
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IllegalArgumentException();
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void skipRecord(int c, boolean quoted) throws IOException {
+        while (c != EOF) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && (c == '\r' || c == '\n')) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                return;
+            }
+            c = reader.read();
+        }
+    }
+}
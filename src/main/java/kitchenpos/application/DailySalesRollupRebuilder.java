@@ -0,0 +1,53 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DailySalesRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+@Component
+public class DailySalesRollupRebuilder {
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+    private final Duration maxRange;
+
+    public DailySalesRollupRebuilder(
+        final DailySalesRollupRepository dailySalesRollupRepository,
+        @Value("${kitchenpos.sales.rollup.rebuild-max-range:366d}") final Duration maxRange
+    ) {
+        this.dailySalesRollupRepository = dailySalesRollupRepository;
+        this.maxRange = maxRange;
+    }
+
+    @Scheduled(cron = "${kitchenpos.sales.rollup.rebuild-cron:0 15 4 * * *}")
+    @Transactional
+    public void rebuildYesterday() {
+        rebuild(LocalDate.now().minusDays(1));
+    }
+
+    @Transactional
+    public int rebuild(final LocalDate salesDate) {
+        return dailySalesRollupRepository.rebuild(salesDate);
+    }
+
+    // backfills days that were completed before the rollup existed; each day is rebuilt and committed on its own
+    // so a long range neither holds one huge transaction nor loses finished days when a later one fails
+    public int rebuild(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRange.toDays()) {
+            throw new IllegalArgumentException();
+        }
+        int rebuilt = 0;
+        for (LocalDate salesDate = from; !salesDate.isAfter(to); salesDate = salesDate.plusDays(1)) {
+            rebuilt += dailySalesRollupRepository.rebuild(salesDate);
+        }
+        return rebuilt;
+    }
+}
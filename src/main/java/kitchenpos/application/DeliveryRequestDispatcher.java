@@ -0,0 +1,157 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.RiderAgencyClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Component
+public class DeliveryRequestDispatcher implements DisposableBean {
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final RiderAgencyClient riderAgencyClient;
+    private final int batchSize;
+    private final Duration maxWait;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicBoolean woken = new AtomicBoolean();
+
+    public DeliveryRequestDispatcher(
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final RiderAgencyClient riderAgencyClient,
+        @Value("${kitchenpos.delivery.dispatcher.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.dispatcher.max-wait:200ms}") final Duration maxWait,
+        @Value("${kitchenpos.delivery.dispatcher.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.dispatcher.initial-backoff:1s}") final Duration initialBackoff,
+        @Value("${kitchenpos.delivery.dispatcher.max-backoff:5m}") final Duration maxBackoff,
+        @Value("${kitchenpos.delivery.dispatcher.lease:1m}") final Duration lease
+    ) {
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.riderAgencyClient = riderAgencyClient;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    // a committed request wakes this instance right away when it fills a batch, otherwise once max-wait has passed
+    @TransactionalEventListener
+    public void wake(final DeliveryRequestedEvent event) {
+        if (requested.incrementAndGet() == batchSize) {
+            executor.execute(this::dispatchWoken);
+        } else if (woken.compareAndSet(false, true)) {
+            executor.schedule(this::dispatchWoken, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void dispatchWoken() {
+        woken.set(false);
+        requested.set(0);
+        dispatch();
+    }
+
+    // events only reach the instance that committed the request, so retries, expired leases and requests left
+    // behind by a stopped instance are picked up by this slow poll
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery.dispatcher.recovery-delay:5000}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched >= batchSize);
+    }
+
+    private int dispatchBatch() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryRequest> deliveryRequests = deliveryRequestRepository
+            .findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                DeliveryRequestStatus.PENDING,
+                now,
+                PageRequest.of(0, batchSize)
+            );
+        if (deliveryRequests.isEmpty()) {
+            return 0;
+        }
+        final boolean full = deliveryRequests.size() >= batchSize;
+        final boolean expired = !deliveryRequests.get(0).getNextAttemptAt().isAfter(now.minus(maxWait));
+        if (!full && !expired) {
+            return 0;
+        }
+        final UUID claimToken = UUID.randomUUID();
+        final List<UUID> ids = deliveryRequests.stream()
+            .map(DeliveryRequest::getId)
+            .collect(Collectors.toList());
+        final int claimed = deliveryRequestRepository.claimAll(ids, now, claimToken, now.plus(lease));
+        if (claimed == 0) {
+            return 0;
+        }
+        send(claimToken, deliveryRequestRepository.findAllByClaimToken(claimToken));
+        return claimed;
+    }
+
+    private void send(final UUID claimToken, final List<DeliveryRequest> deliveryRequests) {
+        try {
+            riderAgencyClient.requestDeliveries(deliveryRequests);
+        } catch (final RuntimeException e) {
+            scheduleRetries(claimToken, deliveryRequests);
+            return;
+        }
+        deliveryRequestRepository.completeClaim(claimToken, DeliveryRequestStatus.SENT);
+    }
+
+    private void scheduleRetries(final UUID claimToken, final List<DeliveryRequest> deliveryRequests) {
+        final Set<Integer> attemptCounts = deliveryRequests.stream()
+            .map(DeliveryRequest::getAttempts)
+            .collect(Collectors.toCollection(TreeSet::new));
+        final LocalDateTime now = LocalDateTime.now();
+        boolean exhausted = false;
+        for (final int attempts : attemptCounts) {
+            if (attempts + 1 >= maxAttempts) {
+                exhausted = true;
+                continue;
+            }
+            deliveryRequestRepository.releaseClaim(claimToken, attempts, now.plus(backoff(attempts + 1)));
+        }
+        if (exhausted) {
+            deliveryRequestRepository.completeClaim(claimToken, DeliveryRequestStatus.FAILED);
+        }
+    }
+
+    private Duration backoff(final int attempts) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            return maxBackoff;
+        }
+        return backoff;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
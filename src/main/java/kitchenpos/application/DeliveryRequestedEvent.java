@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryRequest;
+
+import java.util.UUID;
+
+public class DeliveryRequestedEvent {
+    private final UUID deliveryRequestId;
+    private final UUID orderId;
+
+    public DeliveryRequestedEvent(final UUID deliveryRequestId, final UUID orderId) {
+        this.deliveryRequestId = deliveryRequestId;
+        this.orderId = orderId;
+    }
+
+    public static DeliveryRequestedEvent of(final DeliveryRequest deliveryRequest) {
+        return new DeliveryRequestedEvent(deliveryRequest.getId(), deliveryRequest.getOrderId());
+    }
+
+    public UUID getDeliveryRequestId() {
+        return deliveryRequestId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+}
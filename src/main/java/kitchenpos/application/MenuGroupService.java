@@ -1,5 +1,6 @@
 package kitchenpos.application;
 
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
 import org.springframework.stereotype.Service;
@@ -7,14 +8,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final IdGenerator idGenerator;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(final MenuGroupRepository menuGroupRepository, final IdGenerator idGenerator) {
         this.menuGroupRepository = menuGroupRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -24,7 +26,7 @@ public class MenuGroupService {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = new MenuGroup();
-        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setId(idGenerator.generate());
         menuGroup.setName(name);
         return menuGroupRepository.save(menuGroup);
     }
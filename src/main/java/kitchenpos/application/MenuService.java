@@ -1,5 +1,6 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
 import kitchenpos.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,19 +15,23 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final ProfanityClient profanityClient;
+    private final IdGenerator idGenerator;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final ProfanityClient profanityClient
+        final ProfanityClient profanityClient,
+        final IdGenerator idGenerator
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.profanityClient = profanityClient;
+        this.idGenerator = idGenerator;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Menu create(final Menu request) {
         final BigDecimal price = request.getPrice();
@@ -73,7 +78,7 @@ public class MenuService {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
+        menu.setId(idGenerator.generate());
         menu.setName(name);
         menu.setPrice(price);
         menu.setMenuGroup(menuGroup);
@@ -82,6 +87,7 @@ public class MenuService {
         return menuRepository.save(menu);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
         final BigDecimal price = request.getPrice();
@@ -103,6 +109,7 @@ public class MenuService {
         return menu;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
@@ -120,6 +127,7 @@ public class MenuService {
         return menu;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Menu hide(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
@@ -0,0 +1,49 @@
+package kitchenpos.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.OptimisticLockException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class OptimisticLockRetryExecutor {
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetryExecutor(
+        @Value("${kitchenpos.optimistic-lock.max-attempts:3}") final int maxAttempts,
+        @Value("${kitchenpos.optimistic-lock.backoff:20ms}") final Duration backoff
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    public <T> T execute(final Supplier<T> command) {
+        int attempts = 0;
+        while (true) {
+            try {
+                return command.get();
+            } catch (final OptimisticLockingFailureException | OptimisticLockException e) {
+                if (++attempts >= maxAttempts) {
+                    throw e;
+                }
+                sleepWithJitter(attempts);
+            }
+        }
+    }
+
+    private void sleepWithJitter(final int attempts) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempts + 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
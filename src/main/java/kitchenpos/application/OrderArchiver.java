@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class OrderArchiver {
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+
+    public OrderArchiver(
+        final OrderArchiveRepository orderArchiveRepository,
+        @Value("${kitchenpos.order.archiver.age:90d}") final Duration age,
+        @Value("${kitchenpos.order.archiver.batch-size:500}") final int batchSize,
+        @Value("${kitchenpos.order.archiver.max-batches:1000}") final int maxBatches,
+        @Value("${kitchenpos.order.archiver.pause:200ms}") final Duration pause
+    ) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${kitchenpos.order.archiver.cron:0 30 3 * * *}")
+    public void archive() {
+        final LocalDateTime completedBefore = LocalDateTime.now().minus(age);
+        for (int batch = 0; batch < maxBatches; batch++) {
+            final int archived = orderArchiveRepository.archiveCompletedBefore(completedBefore, batchSize);
+            if (archived < batchSize) {
+                return;
+            }
+            if (!sleep()) {
+                return;
+            }
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
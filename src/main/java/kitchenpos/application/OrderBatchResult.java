@@ -0,0 +1,35 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+public class OrderBatchResult {
+    private final boolean success;
+    private final Order order;
+    private final String error;
+
+    private OrderBatchResult(final boolean success, final Order order, final String error) {
+        this.success = success;
+        this.order = order;
+        this.error = error;
+    }
+
+    public static OrderBatchResult success(final Order order) {
+        return new OrderBatchResult(true, order, null);
+    }
+
+    public static OrderBatchResult failure(final RuntimeException exception) {
+        return new OrderBatchResult(false, null, exception.getClass().getSimpleName());
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
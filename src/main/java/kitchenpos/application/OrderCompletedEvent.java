@@ -0,0 +1,75 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class OrderCompletedEvent {
+    private final UUID orderId;
+    private final OrderType type;
+    private final LocalDate orderDate;
+    private final List<Line> lines;
+
+    public OrderCompletedEvent(final UUID orderId, final OrderType type, final LocalDate orderDate, final List<Line> lines) {
+        this.orderId = orderId;
+        this.type = type;
+        this.orderDate = orderDate;
+        this.lines = lines;
+    }
+
+    public static OrderCompletedEvent of(final Order order) {
+        final List<Line> lines = order.getOrderLineItems().stream()
+            .map(orderLineItem -> new Line(
+                orderLineItem.getMenu().getId(),
+                orderLineItem.getQuantity(),
+                orderLineItem.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity()))
+            ))
+            .collect(Collectors.toUnmodifiableList());
+        return new OrderCompletedEvent(order.getId(), order.getType(), order.getOrderDateTime().toLocalDate(), lines);
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public LocalDate getOrderDate() {
+        return orderDate;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public static class Line {
+        private final UUID menuId;
+        private final long quantity;
+        private final BigDecimal amount;
+
+        public Line(final UUID menuId, final long quantity, final BigDecimal amount) {
+            this.menuId = menuId;
+            this.quantity = quantity;
+            this.amount = amount;
+        }
+
+        public UUID getMenuId() {
+            return menuId;
+        }
+
+        public long getQuantity() {
+            return quantity;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class OrderCreatedEvent {
+    private final UUID orderId;
+    private final Map<UUID, Long> menuQuantities;
+
+    public OrderCreatedEvent(final UUID orderId, final Map<UUID, Long> menuQuantities) {
+        this.orderId = orderId;
+        this.menuQuantities = menuQuantities;
+    }
+
+    public static OrderCreatedEvent of(final Order order) {
+        final Map<UUID, Long> menuQuantities = order.getOrderLineItems().stream()
+            .collect(Collectors.toUnmodifiableMap(
+                orderLineItem -> orderLineItem.getMenu().getId(),
+                orderLineItem -> orderLineItem.getQuantity(),
+                Long::sum
+            ));
+        return new OrderCreatedEvent(order.getId(), menuQuantities);
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public Map<UUID, Long> getMenuQuantities() {
+        return menuQuantities;
+    }
+}
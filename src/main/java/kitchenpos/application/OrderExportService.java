@@ -0,0 +1,54 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportService {
+    private static final int FLUSH_INTERVAL = 100;
+    private static final byte NEW_LINE = '\n';
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter orderWriter;
+
+    public OrderExportService(
+        final OrderRepository orderRepository,
+        final EntityManager entityManager,
+        final ObjectMapper objectMapper
+    ) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.orderWriter = objectMapper.writerFor(Order.class);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final OutputStream outputStream) throws IOException {
+        try (final Stream<Order> orders = orderRepository.streamAllBy()) {
+            final Iterator<Order> iterator = orders.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                final Order order = iterator.next();
+                outputStream.write(orderWriter.writeValueAsBytes(order));
+                outputStream.write(NEW_LINE);
+                // menus and order tables stay loaded for the next orders, only the written order is let go
+                order.getOrderLineItems().forEach(entityManager::detach);
+                entityManager.detach(order);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+    }
+}
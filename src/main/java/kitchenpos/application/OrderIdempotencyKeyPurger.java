@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class OrderIdempotencyKeyPurger {
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+
+    public OrderIdempotencyKeyPurger(
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        @Value("${kitchenpos.order.idempotency.retention:7d}") final Duration retention,
+        @Value("${kitchenpos.order.idempotency.cache.ttl:PT10M}") final Duration cacheTtl,
+        @Value("${kitchenpos.order.idempotency.purger.batch-size:1000}") final int batchSize,
+        @Value("${kitchenpos.order.idempotency.purger.max-batches:1000}") final int maxBatches,
+        @Value("${kitchenpos.order.idempotency.purger.pause:100ms}") final Duration pause
+    ) {
+        // a key purged while still cached would be honored on this instance but not on the others
+        if (retention.compareTo(cacheTtl) < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${kitchenpos.order.idempotency.purger.cron:0 45 3 * * *}")
+    public void purge() {
+        final LocalDateTime createdBefore = LocalDateTime.now().minus(retention);
+        for (int batch = 0; batch < maxBatches; batch++) {
+            final int purged = orderIdempotencyKeyRepository.deleteCreatedBefore(createdBefore, batchSize);
+            if (purged < batchSize) {
+                return;
+            }
+            if (!sleep()) {
+                return;
+            }
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package kitchenpos.application;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class OrderIdempotencyKeys {
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Cache<String, UUID> cache;
+
+    public OrderIdempotencyKeys(
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        @Value("${kitchenpos.order.idempotency.cache.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.order.idempotency.cache.ttl:PT10M}") final Duration ttl
+    ) {
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    public Optional<UUID> findCachedOrderId(final String idempotencyKey) {
+        return Optional.ofNullable(cache.getIfPresent(idempotencyKey));
+    }
+
+    public Optional<UUID> findOrderId(final String idempotencyKey) {
+        final Optional<UUID> cached = findCachedOrderId(idempotencyKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        final Optional<UUID> orderId = orderIdempotencyKeyRepository.findById(idempotencyKey)
+            .map(OrderIdempotencyKey::getOrderId);
+        orderId.ifPresent(it -> cache.put(idempotencyKey, it));
+        return orderId;
+    }
+
+    public boolean claim(final String idempotencyKey, final UUID orderId) {
+        final OrderIdempotencyKey orderIdempotencyKey = new OrderIdempotencyKey();
+        orderIdempotencyKey.setIdempotencyKey(idempotencyKey);
+        orderIdempotencyKey.setOrderId(orderId);
+        orderIdempotencyKey.setCreatedAt(LocalDateTime.now());
+        if (!orderIdempotencyKeyRepository.insertIfAbsent(orderIdempotencyKey)) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(idempotencyKey, orderId);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(idempotencyKey, orderId);
+            }
+        });
+        return true;
+    }
+}
@@ -0,0 +1,114 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderLatency;
+import kitchenpos.domain.OrderLatencyBucket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderLatencyReport {
+    private final OrderLatency latency;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int count;
+    private final long p50Millis;
+    private final long p90Millis;
+    private final long p95Millis;
+    private final long p99Millis;
+    private final long maxMillis;
+
+    private OrderLatencyReport(
+        final OrderLatency latency,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final int count,
+        final long p50Millis,
+        final long p90Millis,
+        final long p95Millis,
+        final long p99Millis,
+        final long maxMillis
+    ) {
+        this.latency = latency;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public static OrderLatencyReport of(
+        final OrderLatency latency,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final List<OrderLatencyBucket> histogram
+    ) {
+        final long count = histogram.stream()
+            .mapToLong(OrderLatencyBucket::getCount)
+            .sum();
+        return new OrderLatencyReport(
+            latency,
+            from,
+            to,
+            (int) count,
+            percentile(histogram, count, 50),
+            percentile(histogram, count, 90),
+            percentile(histogram, count, 95),
+            percentile(histogram, count, 99),
+            percentile(histogram, count, 100)
+        );
+    }
+
+    private static long percentile(final List<OrderLatencyBucket> histogram, final long count, final int percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max((long) Math.ceil(percentile / 100.0 * count), 1);
+        long seen = 0;
+        for (final OrderLatencyBucket bucket : histogram) {
+            seen += bucket.getCount();
+            if (seen >= rank) {
+                return bucket.getMaxMillis();
+            }
+        }
+        return histogram.get(histogram.size() - 1).getMaxMillis();
+    }
+
+    public OrderLatency getLatency() {
+        return latency;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP90Millis() {
+        return p90Millis;
+    }
+
+    public long getP95Millis() {
+        return p95Millis;
+    }
+
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+}
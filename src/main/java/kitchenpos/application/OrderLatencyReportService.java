@@ -0,0 +1,36 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderLatency;
+import kitchenpos.domain.OrderLatencyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Service
+public class OrderLatencyReportService {
+    private final OrderLatencyRepository orderLatencyRepository;
+    private final Duration maxRange;
+
+    public OrderLatencyReportService(
+        final OrderLatencyRepository orderLatencyRepository,
+        @Value("${kitchenpos.order.latency-report.max-range:31d}") final Duration maxRange
+    ) {
+        this.orderLatencyRepository = orderLatencyRepository;
+        this.maxRange = maxRange;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderLatencyReport report(final OrderLatency latency, final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(latency) || Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+        if (Duration.between(from, to).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException();
+        }
+        return OrderLatencyReport.of(latency, from, to, orderLatencyRepository.findHistogramEndedBetween(latency, from, to));
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderSearchCondition {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private OrderStatus status;
+    private OrderType type;
+    private UUID orderTableId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorOrderDateTime;
+    private UUID cursorId;
+    private int size = DEFAULT_SIZE;
+    private boolean includeArchived;
+
+    public OrderSearchCondition() {
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final OrderStatus status) {
+        this.status = status;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public void setType(final OrderType type) {
+        this.type = type;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final UUID orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public LocalDateTime getCursorOrderDateTime() {
+        return cursorOrderDateTime;
+    }
+
+    public void setCursorOrderDateTime(final LocalDateTime cursorOrderDateTime) {
+        this.cursorOrderDateTime = cursorOrderDateTime;
+    }
+
+    public UUID getCursorId() {
+        return cursorId;
+    }
+
+    public void setCursorId(final UUID cursorId) {
+        this.cursorId = cursorId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(final boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+}
@@ -1,48 +1,181 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderAction;
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderIdempotencyKey;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderTransitions;
 import kitchenpos.domain.OrderType;
-import kitchenpos.domain.RiderAgencyClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
+    private static final Comparator<Order> LATEST_FIRST = Comparator.comparing(Order::getOrderDateTime)
+        .thenComparing(Order::getId, OrderService::compareAsBytes)
+        .reversed();
+
     private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final RiderAgencyClient agencyClient;
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final OrderTransitions orderTransitions;
+    private final OrderIdempotencyKeys orderIdempotencyKeys;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdGenerator idGenerator;
 
     public OrderService(
         final OrderRepository orderRepository,
+        final OrderArchiveRepository orderArchiveRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final RiderAgencyClient riderAgencyClient
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final OrderTransitions orderTransitions,
+        final OrderIdempotencyKeys orderIdempotencyKeys,
+        final ApplicationEventPublisher eventPublisher,
+        final IdGenerator idGenerator
     ) {
         this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.agencyClient = riderAgencyClient;
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.orderTransitions = orderTransitions;
+        this.orderIdempotencyKeys = orderIdempotencyKeys;
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order create(final Order request) {
+        return createOrder(request, idGenerator.generate());
+    }
+
+    @Timed(value = "kitchenpos.command", histogram = true)
+    @Transactional
+    public Order create(final Order request, final String idempotencyKey) {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.isEmpty()) {
+            return create(request);
+        }
+        if (idempotencyKey.length() > OrderIdempotencyKey.MAX_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final Optional<UUID> cachedOrderId = orderIdempotencyKeys.findCachedOrderId(idempotencyKey);
+        if (cachedOrderId.isPresent()) {
+            return findById(cachedOrderId.get(), true);
+        }
+        // claim the key before any read so a concurrent retry waits on the key row and then sees the committed order
+        final UUID orderId = idGenerator.generate();
+        if (!orderIdempotencyKeys.claim(idempotencyKey, orderId)) {
+            final UUID originalOrderId = orderIdempotencyKeys.findOrderId(idempotencyKey)
+                .orElseThrow(NoSuchElementException::new);
+            return findById(originalOrderId, true);
+        }
+        return createOrder(request, orderId);
+    }
+
+    private Order createOrder(final Order request, final UUID orderId) {
+        final List<Order> requests = List.of(request);
+        final Order order = orderRepository.save(newOrder(orderId, request, findMenus(requests), findOrderTables(requests)));
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order));
+        eventPublisher.publishEvent(OrderCreatedEvent.of(order));
+        return order;
+    }
+
+    @Timed(value = "kitchenpos.command", histogram = true)
+    @Transactional
+    public List<OrderBatchResult> createAll(final List<Order> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Menu> menus = findMenus(requests);
+        final Map<UUID, OrderTable> orderTables = findOrderTables(requests);
+        final List<OrderBatchResult> results = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        for (final Order request : requests) {
+            try {
+                final Order order = newOrder(idGenerator.generate(), request, menus, orderTables);
+                orders.add(order);
+                results.add(OrderBatchResult.success(order));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                results.add(OrderBatchResult.failure(e));
+            }
+        }
+        orderRepository.insertAll(orders);
+        orders.forEach(order -> {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.of(order));
+            eventPublisher.publishEvent(OrderCreatedEvent.of(order));
+        });
+        return results;
+    }
+
+    private Map<UUID, Menu> findMenus(final List<Order> requests) {
+        final List<UUID> menuIds = requests.stream()
+            .map(Order::getOrderLineItems)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(OrderLineItem::getMenuId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return menuRepository.findAllByIdIn(menuIds).stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+
+    private Map<UUID, OrderTable> findOrderTables(final List<Order> requests) {
+        final List<UUID> orderTableIds = requests.stream()
+            .filter(request -> request.getType() == OrderType.EAT_IN)
+            .map(Order::getOrderTableId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllByIdIn(orderTableIds).stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private Order newOrder(
+        final UUID orderId,
+        final Order request,
+        final Map<UUID, Menu> menus,
+        final Map<UUID, OrderTable> orderTables
+    ) {
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
@@ -51,15 +184,15 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .collect(Collectors.toList())
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final long distinctMenuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .distinct()
+            .count();
+        if (distinctMenuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        BigDecimal totalPrice = BigDecimal.ZERO;
         for (final OrderLineItem orderLineItemRequest : orderLineItemRequests) {
             final long quantity = orderLineItemRequest.getQuantity();
             if (type != OrderType.EAT_IN) {
@@ -67,8 +200,10 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final Menu menu = menus.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new IllegalArgumentException();
+            }
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -77,14 +212,18 @@ public class OrderService {
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
+            totalPrice = totalPrice.add(menu.getPrice().multiply(BigDecimal.valueOf(quantity)));
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(orderId);
         order.setType(type);
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
+        order.setStatusChangedAt(order.getOrderDateTime());
+        order.setTotalPrice(totalPrice);
         order.setOrderLineItems(orderLineItems);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
@@ -94,101 +233,193 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
-                .orElseThrow(NoSuchElementException::new);
+            final OrderTable orderTable = orderTables.get(request.getOrderTableId());
+            if (Objects.isNull(orderTable)) {
+                throw new NoSuchElementException();
+            }
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + 1);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            agencyClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
-        }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
+        return transition(orderId, OrderAction.ACCEPT);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return transition(orderId, OrderAction.SERVE);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return transition(orderId, OrderAction.START_DELIVERY);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return transition(orderId, OrderAction.COMPLETE_DELIVERY);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Order complete(final UUID orderId) {
+        return transition(orderId, OrderAction.COMPLETE);
+    }
+
+    @Timed(value = "kitchenpos.command", histogram = true)
+    @Transactional
+    public Order transition(final UUID orderId, final OrderAction action) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
-            }
+        return transition(order, action);
+    }
+
+    @Timed(value = "kitchenpos.command", histogram = true)
+    @Transactional
+    public List<OrderTransitionResult> transitionAll(final OrderTransitionRequest request) {
+        final List<UUID> orderIds = request.getOrderIds();
+        final OrderAction action = request.getAction();
+        if (Objects.isNull(orderIds) || orderIds.isEmpty() || Objects.isNull(action)) {
+            throw new IllegalArgumentException();
         }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
+        final Map<UUID, Order> orders = orderRepository.findAllByIdIn(orderIds).stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        final List<OrderTransitionResult> results = new ArrayList<>();
+        for (final UUID orderId : orderIds) {
+            try {
+                final Order order = Optional.ofNullable(orders.get(orderId))
+                    .orElseThrow(NoSuchElementException::new);
+                results.add(OrderTransitionResult.success(transition(order, action)));
+            } catch (final IllegalStateException | NoSuchElementException e) {
+                results.add(OrderTransitionResult.failure(orderId, e));
             }
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setOccupied(false);
-            }
+        return results;
+    }
+
+    private Order transition(final Order order, final OrderAction action) {
+        final OrderStatus previousStatus = order.getStatus();
+        final LocalDateTime previousStatusChangedAt = order.getStatusChangedAt();
+        order.setStatus(orderTransitions.next(order.getType(), action, previousStatus));
+        order.setStatusChangedAt(LocalDateTime.now());
+        recordTransitionTime(order);
+        if (action == OrderAction.ACCEPT && order.getType() == OrderType.DELIVERY) {
+            requestDelivery(order);
+        }
+        if (action == OrderAction.COMPLETE && order.getType() == OrderType.EAT_IN) {
+            releaseOrderTable(order.getOrderTable());
+        }
+        if (action == OrderAction.COMPLETE) {
+            eventPublisher.publishEvent(OrderCompletedEvent.of(order));
         }
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, previousStatus, previousStatusChangedAt));
         return order;
     }
 
+    private void recordTransitionTime(final Order order) {
+        final LocalDateTime changedAt = order.getStatusChangedAt();
+        switch (order.getStatus()) {
+            case ACCEPTED:
+                order.setAcceptedAt(changedAt);
+                break;
+            case SERVED:
+                order.setServedAt(changedAt);
+                break;
+            case DELIVERING:
+                order.setDeliveryStartedAt(changedAt);
+                break;
+            case DELIVERED:
+                order.setDeliveredAt(changedAt);
+                break;
+            case COMPLETED:
+                order.setCompletedAt(changedAt);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void requestDelivery(final Order order) {
+        final DeliveryRequest deliveryRequest = new DeliveryRequest();
+        deliveryRequest.setId(idGenerator.generate());
+        deliveryRequest.setOrderId(order.getId());
+        deliveryRequest.setAmount(order.getTotalPrice());
+        deliveryRequest.setDeliveryAddress(order.getDeliveryAddress());
+        deliveryRequest.setStatus(DeliveryRequestStatus.PENDING);
+        deliveryRequest.setAttempts(0);
+        deliveryRequest.setNextAttemptAt(LocalDateTime.now());
+        deliveryRequest.setCreatedAt(LocalDateTime.now());
+        deliveryRequestRepository.save(deliveryRequest);
+        eventPublisher.publishEvent(DeliveryRequestedEvent.of(deliveryRequest));
+    }
+
+    private void releaseOrderTable(final OrderTable orderTable) {
+        orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() - 1);
+        if (orderTable.getOpenOrderCount() == 0) {
+            orderTable.setNumberOfGuests(0);
+            orderTable.setOccupied(false);
+        }
+    }
+
     @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    public List<Order> findAll(final OrderSearchCondition condition) {
+        final int size = condition.getSize();
+        if (size <= 0 || size > OrderSearchCondition.MAX_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        if (Objects.nonNull(condition.getCursorOrderDateTime()) && Objects.isNull(condition.getCursorId())) {
+            throw new IllegalArgumentException();
+        }
+        final List<Order> orders = orderRepository.findAllByCursor(
+            condition.getStatus(),
+            condition.getType(),
+            condition.getOrderTableId(),
+            condition.getCursorOrderDateTime(),
+            condition.getCursorId(),
+            PageRequest.of(0, size)
+        );
+        final OrderStatus status = condition.getStatus();
+        if (!condition.isIncludeArchived() || (Objects.nonNull(status) && status != OrderStatus.COMPLETED)) {
+            return orders;
+        }
+        final List<Order> archivedOrders = orderArchiveRepository.findAllByCursor(
+            condition.getType(),
+            condition.getOrderTableId(),
+            condition.getCursorOrderDateTime(),
+            condition.getCursorId(),
+            size
+        );
+        return Stream.concat(orders.stream(), archivedOrders.stream())
+            .sorted(LATEST_FIRST)
+            .limit(size)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Order findById(final UUID orderId, final boolean includeArchived) {
+        final Optional<Order> order = orderRepository.findById(orderId);
+        if (order.isPresent() || !includeArchived) {
+            return order.orElseThrow(NoSuchElementException::new);
+        }
+        return orderArchiveRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    private static int compareAsBytes(final UUID left, final UUID right) {
+        final int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        if (result != 0) {
+            return result;
+        }
+        return Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
     }
 }
@@ -0,0 +1,80 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderStatusChangedEvent {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime occurredAt;
+    private final OrderStatus previousStatus;
+    private final LocalDateTime previousStatusChangedAt;
+
+    public OrderStatusChangedEvent(final UUID orderId, final OrderType type, final OrderStatus status, final LocalDateTime occurredAt) {
+        this(orderId, type, status, occurredAt, null, null);
+    }
+
+    public OrderStatusChangedEvent(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime occurredAt,
+        final OrderStatus previousStatus,
+        final LocalDateTime previousStatusChangedAt
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.occurredAt = occurredAt;
+        this.previousStatus = previousStatus;
+        this.previousStatusChangedAt = previousStatusChangedAt;
+    }
+
+    public static OrderStatusChangedEvent of(final Order order) {
+        return new OrderStatusChangedEvent(order.getId(), order.getType(), order.getStatus(), order.getStatusChangedAt());
+    }
+
+    public static OrderStatusChangedEvent of(
+        final Order order,
+        final OrderStatus previousStatus,
+        final LocalDateTime previousStatusChangedAt
+    ) {
+        return new OrderStatusChangedEvent(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            order.getStatusChangedAt(),
+            previousStatus,
+            previousStatusChangedAt
+        );
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public LocalDateTime getPreviousStatusChangedAt() {
+        return previousStatusChangedAt;
+    }
+}
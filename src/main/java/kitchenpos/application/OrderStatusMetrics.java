@@ -0,0 +1,44 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class OrderStatusMetrics {
+    private static final String TIME_IN_STATE = "kitchenpos.order.time.in.state";
+    private static final Set<OrderStatus> MEASURED_STATUSES = EnumSet.of(
+        OrderStatus.WAITING,
+        OrderStatus.ACCEPTED,
+        OrderStatus.SERVED,
+        OrderStatus.DELIVERING
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    public OrderStatusMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener
+    public void record(final OrderStatusChangedEvent event) {
+        final OrderStatus previousStatus = event.getPreviousStatus();
+        if (!MEASURED_STATUSES.contains(previousStatus) || Objects.isNull(event.getPreviousStatusChangedAt())) {
+            return;
+        }
+        Timer.builder(TIME_IN_STATE)
+            .description("Time an order spent in a status before leaving it")
+            .tag("status", previousStatus.name())
+            .tag("type", event.getType().name())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.between(event.getPreviousStatusChangedAt(), event.getOccurredAt()));
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.OrderTableRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class OrderTableOpenOrderCountChecker {
+    private static final String DRIFT = "kitchenpos.order-table.open-order-count.drift";
+
+    private final OrderTableRepository orderTableRepository;
+    private final Counter drift;
+
+    public OrderTableOpenOrderCountChecker(
+        final OrderTableRepository orderTableRepository,
+        final MeterRegistry meterRegistry
+    ) {
+        this.orderTableRepository = orderTableRepository;
+        this.drift = Counter.builder(DRIFT)
+            .description("Order tables whose open order count was corrected by the checker")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${kitchenpos.order-table.open-order-count-checker.cron:0 0 4 * * *}")
+    @Transactional
+    public void rebuild() {
+        drift.increment(orderTableRepository.reconcileOpenOrderCounts());
+    }
+}
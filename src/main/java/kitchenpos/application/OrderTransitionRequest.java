@@ -0,0 +1,30 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderAction;
+
+import java.util.List;
+import java.util.UUID;
+
+public class OrderTransitionRequest {
+    private List<UUID> orderIds;
+    private OrderAction action;
+
+    public OrderTransitionRequest() {
+    }
+
+    public List<UUID> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(final List<UUID> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public OrderAction getAction() {
+        return action;
+    }
+
+    public void setAction(final OrderAction action) {
+        this.action = action;
+    }
+}
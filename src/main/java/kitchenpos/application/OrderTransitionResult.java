@@ -0,0 +1,44 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+
+import java.util.UUID;
+
+public class OrderTransitionResult {
+    private final UUID orderId;
+    private final boolean success;
+    private final OrderStatus status;
+    private final String error;
+
+    private OrderTransitionResult(final UUID orderId, final boolean success, final OrderStatus status, final String error) {
+        this.orderId = orderId;
+        this.success = success;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static OrderTransitionResult success(final Order order) {
+        return new OrderTransitionResult(order.getId(), true, order.getStatus(), null);
+    }
+
+    public static OrderTransitionResult failure(final UUID orderId, final RuntimeException exception) {
+        return new OrderTransitionResult(orderId, false, null, exception.getClass().getSimpleName());
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
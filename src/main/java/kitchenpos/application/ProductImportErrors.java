@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+class ProductImportErrors {
+    private static final Comparator<ProductImportResult.RowError> BY_ROW =
+        Comparator.comparingLong(ProductImportResult.RowError::getRow);
+
+    private final int maxReported;
+    // keeps the lowest rows seen so far; the highest reported row is at the head and gives way to a lower one
+    private final PriorityQueue<ProductImportResult.RowError> reported;
+    private long count;
+
+    ProductImportErrors(final int maxReported) {
+        this.maxReported = maxReported;
+        this.reported = new PriorityQueue<>(BY_ROW.reversed());
+    }
+
+    void add(final long row, final ProductImportResult.Reason reason) {
+        count++;
+        reported.add(new ProductImportResult.RowError(row, reason));
+        if (reported.size() > maxReported) {
+            reported.poll();
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    List<ProductImportResult.RowError> reported() {
+        final List<ProductImportResult.RowError> errors = new ArrayList<>(reported);
+        errors.sort(BY_ROW);
+        return errors;
+    }
+}
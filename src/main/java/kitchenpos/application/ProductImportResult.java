@@ -0,0 +1,60 @@
+package kitchenpos.application;
+
+import java.util.List;
+
+public class ProductImportResult {
+    private final long totalCount;
+    private final long importedCount;
+    private final long errorCount;
+    private final List<RowError> errors;
+
+    public ProductImportResult(
+        final long totalCount,
+        final long importedCount,
+        final long errorCount,
+        final List<RowError> errors
+    ) {
+        this.totalCount = totalCount;
+        this.importedCount = importedCount;
+        this.errorCount = errorCount;
+        this.errors = errors;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public enum Reason {
+        INVALID_FORMAT, INVALID_NAME, INVALID_PRICE, PROFANITY
+    }
+
+    public static class RowError {
+        private final long row;
+        private final Reason reason;
+
+        public RowError(final long row, final Reason reason) {
+            this.row = row;
+            this.reason = reason;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+    }
+}
@@ -1,31 +1,53 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
 import kitchenpos.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
+    private static final int IMPORT_CHUNK_SIZE = 1_000;
+    private static final int IMPORT_MAX_RECORD_LENGTH = 4_096;
+    private static final int IMPORT_MAX_REPORTED_ERRORS = 1_000;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int PRICE_SCALE = 2;
+    private static final int PRICE_PRECISION = 19;
+
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
     private final ProfanityClient profanityClient;
+    private final IdGenerator idGenerator;
+    private final TransactionOperations transactionOperations;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final ProfanityClient profanityClient
+        final ProfanityClient profanityClient,
+        final IdGenerator idGenerator,
+        final TransactionOperations transactionOperations
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
         this.profanityClient = profanityClient;
+        this.idGenerator = idGenerator;
+        this.transactionOperations = transactionOperations;
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Product create(final Product request) {
         final BigDecimal price = request.getPrice();
@@ -37,12 +59,109 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
-        product.setId(UUID.randomUUID());
+        product.setId(idGenerator.generate());
         product.setName(name);
         product.setPrice(price);
         return productRepository.save(product);
     }
 
+    @Timed(value = "kitchenpos.command", histogram = true)
+    public ProductImportResult importAll(final Reader reader) {
+        final CsvReader csvReader = new CsvReader(reader, IMPORT_MAX_RECORD_LENGTH);
+        final List<String> header = csvReader.read();
+        if (Objects.isNull(header)) {
+            throw new IllegalArgumentException();
+        }
+        final int nameIndex = indexOf(header, "name");
+        final int priceIndex = indexOf(header, "price");
+        final ProductImportErrors errors = new ProductImportErrors(IMPORT_MAX_REPORTED_ERRORS);
+        final Map<Long, Product> chunk = new LinkedHashMap<>();
+        long row = 0;
+        long importedCount = 0;
+        while (true) {
+            final List<String> record;
+            try {
+                record = csvReader.read();
+            } catch (final IllegalArgumentException e) {
+                errors.add(++row, ProductImportResult.Reason.INVALID_FORMAT);
+                continue;
+            }
+            if (Objects.isNull(record)) {
+                break;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            if (record.size() <= Math.max(nameIndex, priceIndex)) {
+                errors.add(row, ProductImportResult.Reason.INVALID_FORMAT);
+                continue;
+            }
+            final String name = record.get(nameIndex).trim();
+            if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+                errors.add(row, ProductImportResult.Reason.INVALID_NAME);
+                continue;
+            }
+            final BigDecimal price = parsePrice(record.get(priceIndex));
+            if (Objects.isNull(price)) {
+                errors.add(row, ProductImportResult.Reason.INVALID_PRICE);
+                continue;
+            }
+            final Product product = new Product();
+            product.setName(name);
+            product.setPrice(price);
+            chunk.put(row, product);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importedCount += insertChunk(chunk, errors);
+            }
+        }
+        importedCount += insertChunk(chunk, errors);
+        return new ProductImportResult(row, importedCount, errors.count(), errors.reported());
+    }
+
+    private static int indexOf(final List<String> header, final String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static BigDecimal parsePrice(final String value) {
+        final BigDecimal price;
+        try {
+            price = new BigDecimal(value.trim());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        if (price.compareTo(BigDecimal.ZERO) < 0 || price.scale() > PRICE_SCALE
+            || price.precision() - price.scale() > PRICE_PRECISION - PRICE_SCALE) {
+            return null;
+        }
+        return price;
+    }
+
+    private long insertChunk(final Map<Long, Product> chunk, final ProductImportErrors errors) {
+        final Set<String> profane = profanityClient.findProfane(chunk.values().stream()
+            .map(Product::getName)
+            .collect(Collectors.toSet()));
+        final List<Product> products = new ArrayList<>(chunk.size());
+        for (final Map.Entry<Long, Product> entry : chunk.entrySet()) {
+            final Product product = entry.getValue();
+            if (profane.contains(product.getName())) {
+                errors.add(entry.getKey(), ProductImportResult.Reason.PROFANITY);
+                continue;
+            }
+            product.setId(idGenerator.generate());
+            products.add(product);
+        }
+        transactionOperations.executeWithoutResult(status -> productRepository.insertAll(products));
+        chunk.clear();
+        return products.size();
+    }
+
+    @Timed(value = "kitchenpos.command", histogram = true)
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
         final BigDecimal price = request.getPrice();
@@ -52,18 +171,7 @@ public class ProductService {
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity())));
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
-            }
-        }
+        menuRepository.hideAllExceedingProductsPrice(productId);
         return product;
     }
 
@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class SalesReportService {
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+
+    public SalesReportService(final DailySalesRollupRepository dailySalesRollupRepository) {
+        this.dailySalesRollupRepository = dailySalesRollupRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailySalesRollup> findDailySales(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        return dailySalesRollupRepository.findAllBySalesDateBetween(from, to);
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupId;
+import kitchenpos.domain.DailySalesRollupRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class SalesRollupCollector {
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+
+    public SalesRollupCollector(final DailySalesRollupRepository dailySalesRollupRepository) {
+        this.dailySalesRollupRepository = dailySalesRollupRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void collect(final OrderCompletedEvent event) {
+        final Map<DailySalesRollupId, DailySalesRollup> deltas = new HashMap<>();
+        for (final OrderCompletedEvent.Line line : event.getLines()) {
+            final DailySalesRollupId id = new DailySalesRollupId(event.getOrderDate(), line.getMenuId(), event.getType());
+            deltas.merge(id, new DailySalesRollup(id, 0, line.getQuantity(), line.getAmount()), DailySalesRollup::plus);
+        }
+        deltas.values().forEach(delta -> delta.setOrderCount(1));
+        dailySalesRollupRepository.addAll(new ArrayList<>(deltas.values()));
+    }
+}
@@ -0,0 +1,192 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+public class SlidingWindowHeavyHitters {
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long bucketMillis;
+    private final int depth;
+    private final int width;
+    private final int candidateCapacity;
+    private final LongSupplier clock;
+
+    public SlidingWindowHeavyHitters(
+        final long windowMillis,
+        final int bucketCount,
+        final int depth,
+        final int width,
+        final int candidateCapacity,
+        final LongSupplier clock
+    ) {
+        if (bucketCount <= 0 || windowMillis < bucketCount || depth <= 0 || depth > SEEDS.length
+            || width <= 0 || candidateCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        this.bucketMillis = windowMillis / bucketCount;
+        this.depth = depth;
+        this.width = width;
+        this.candidateCapacity = candidateCapacity;
+        this.clock = clock;
+    }
+
+    public void add(final UUID item, final long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final Bucket bucket = currentBucket();
+        final long estimate = bucket.add(item, count);
+        bucket.offer(item, estimate);
+    }
+
+    public List<Entry> top(final int k) {
+        final long epoch = epoch();
+        final List<Bucket> live = new ArrayList<>();
+        final Set<UUID> candidates = new HashSet<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            final Bucket bucket = buckets.get(i);
+            if (Objects.nonNull(bucket) && epoch - bucket.epoch < buckets.length()) {
+                live.add(bucket);
+                candidates.addAll(bucket.candidates());
+            }
+        }
+        final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingLong(Entry::getCount));
+        for (final UUID candidate : candidates) {
+            long count = 0;
+            for (final Bucket bucket : live) {
+                count += bucket.estimate(candidate);
+            }
+            heap.offer(new Entry(candidate, count));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        final List<Entry> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingLong(Entry::getCount).reversed());
+        return result;
+    }
+
+    private Bucket currentBucket() {
+        final long epoch = epoch();
+        final int index = (int) (epoch % buckets.length());
+        while (true) {
+            final Bucket bucket = buckets.get(index);
+            if (Objects.nonNull(bucket) && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            final Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private long epoch() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private static int hash(final UUID item, final int row, final int width) {
+        long hash = (item.getMostSignificantBits() * 31 + item.getLeastSignificantBits()) ^ SEEDS[row];
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+
+    public static class Entry {
+        private final UUID item;
+        private final long count;
+
+        public Entry(final UUID item, final long count) {
+            this.item = item;
+            this.count = count;
+        }
+
+        public UUID getItem() {
+            return item;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private class Bucket {
+        private final long epoch;
+        private final AtomicLongArray counters = new AtomicLongArray(depth * width);
+        // candidates ranked by the estimate they were last offered with; estimates only grow, so the weakest one
+        // is found and replaced in O(log k) instead of re-estimating every candidate on each add
+        private final Map<UUID, Long> candidates = new HashMap<>();
+        private final TreeSet<Entry> ranked = new TreeSet<>(
+            Comparator.comparingLong(Entry::getCount).thenComparing(Entry::getItem)
+        );
+
+        private Bucket(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        private long add(final UUID item, final long count) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                estimate = Math.min(estimate, counters.addAndGet(row * width + hash(item, row, width), count));
+            }
+            return estimate;
+        }
+
+        private long estimate(final UUID item) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                estimate = Math.min(estimate, counters.get(row * width + hash(item, row, width)));
+            }
+            return estimate;
+        }
+
+        private synchronized void offer(final UUID item, final long estimate) {
+            final Long offered = candidates.get(item);
+            if (Objects.nonNull(offered)) {
+                if (estimate > offered) {
+                    ranked.remove(new Entry(item, offered));
+                    admit(item, estimate);
+                }
+                return;
+            }
+            if (candidates.size() < candidateCapacity) {
+                admit(item, estimate);
+                return;
+            }
+            final Entry weakest = ranked.first();
+            if (estimate > weakest.getCount()) {
+                ranked.pollFirst();
+                candidates.remove(weakest.getItem());
+                admit(item, estimate);
+            }
+        }
+
+        private void admit(final UUID item, final long estimate) {
+            candidates.put(item, estimate);
+            ranked.add(new Entry(item, estimate));
+        }
+
+        private synchronized Set<UUID> candidates() {
+            return new HashSet<>(candidates.keySet());
+        }
+    }
+}
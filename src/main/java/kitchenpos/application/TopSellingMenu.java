@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import java.util.UUID;
+
+public class TopSellingMenu {
+    private final UUID menuId;
+    private final String name;
+    private final long quantity;
+
+    public TopSellingMenu(final UUID menuId, final String name, final long quantity) {
+        this.menuId = menuId;
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
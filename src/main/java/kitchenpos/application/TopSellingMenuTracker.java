@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class TopSellingMenuTracker {
+    private final MenuRepository menuRepository;
+    private final SlidingWindowHeavyHitters heavyHitters;
+    private final int maxSize;
+
+    public TopSellingMenuTracker(
+        final MenuRepository menuRepository,
+        @Value("${kitchenpos.order.top-menus.window:1h}") final Duration window,
+        @Value("${kitchenpos.order.top-menus.buckets:60}") final int buckets,
+        @Value("${kitchenpos.order.top-menus.depth:4}") final int depth,
+        @Value("${kitchenpos.order.top-menus.width:512}") final int width,
+        @Value("${kitchenpos.order.top-menus.candidates:100}") final int candidates
+    ) {
+        this.menuRepository = menuRepository;
+        this.heavyHitters = new SlidingWindowHeavyHitters(
+            window.toMillis(), buckets, depth, width, candidates, System::currentTimeMillis
+        );
+        this.maxSize = candidates;
+    }
+
+    @TransactionalEventListener
+    public void record(final OrderCreatedEvent event) {
+        event.getMenuQuantities().forEach((menuId, quantity) -> {
+            if (quantity > 0) {
+                heavyHitters.add(menuId, quantity);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<TopSellingMenu> findTop(final int size) {
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException();
+        }
+        final List<SlidingWindowHeavyHitters.Entry> entries = heavyHitters.top(size);
+        final Map<UUID, String> names = menuRepository.findAllByIdIn(entries.stream()
+                .map(SlidingWindowHeavyHitters.Entry::getItem)
+                .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Menu::getName));
+        return entries.stream()
+            .map(entry -> new TopSellingMenu(entry.getItem(), names.get(entry.getItem()), entry.getCount()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface BatchOrderRepository {
+
+    void insertAll(List<Order> orders);
+}
@@ -0,0 +1,21 @@
+package kitchenpos.domain;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+public class BatchOrderRepositoryImpl implements BatchOrderRepository {
+    private final EntityManager entityManager;
+
+    public BatchOrderRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAll(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        orders.forEach(entityManager::persist);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,69 @@
+package kitchenpos.domain;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+
+@Table(name = "daily_sales_rollup")
+@Entity
+public class DailySalesRollup {
+    @EmbeddedId
+    private DailySalesRollupId id;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    public DailySalesRollup() {
+    }
+
+    public DailySalesRollup(final DailySalesRollupId id, final long orderCount, final long quantity, final BigDecimal amount) {
+        this.id = id;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+
+    public DailySalesRollup plus(final DailySalesRollup other) {
+        return new DailySalesRollup(id, orderCount + other.orderCount, quantity + other.quantity, amount.add(other.amount));
+    }
+
+    public DailySalesRollupId getId() {
+        return id;
+    }
+
+    public void setId(final DailySalesRollupId id) {
+        this.id = id;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class DailySalesRollupId implements Serializable {
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "menu_id", columnDefinition = "binary(16)", nullable = false)
+    private UUID menuId;
+
+    @Column(name = "order_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderType orderType;
+
+    public DailySalesRollupId() {
+    }
+
+    public DailySalesRollupId(final LocalDate salesDate, final UUID menuId, final OrderType orderType) {
+        this.salesDate = salesDate;
+        this.menuId = menuId;
+        this.orderType = orderType;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DailySalesRollupId that = (DailySalesRollupId) o;
+        return Objects.equals(salesDate, that.salesDate)
+            && Objects.equals(menuId, that.menuId)
+            && orderType == that.orderType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(salesDate, menuId, orderType);
+    }
+}
@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRollupRepository {
+
+    void addAll(List<DailySalesRollup> deltas);
+
+    int rebuild(LocalDate salesDate);
+
+    List<DailySalesRollup> findAllBySalesDateBetween(LocalDate from, LocalDate to);
+}
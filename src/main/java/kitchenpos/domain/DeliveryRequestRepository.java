@@ -0,0 +1,31 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DeliveryRequestRepository {
+
+    DeliveryRequest save(DeliveryRequest deliveryRequest);
+
+    <S extends DeliveryRequest> List<S> saveAll(Iterable<S> deliveryRequests);
+
+    Optional<DeliveryRequest> findById(UUID id);
+
+    List<DeliveryRequest> findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+        DeliveryRequestStatus status,
+        LocalDateTime nextAttemptAt,
+        Pageable pageable
+    );
+
+    int claimAll(List<UUID> ids, LocalDateTime now, UUID claimToken, LocalDateTime leaseUntil);
+
+    List<DeliveryRequest> findAllByClaimToken(UUID claimToken);
+
+    int completeClaim(UUID claimToken, DeliveryRequestStatus status);
+
+    int releaseClaim(UUID claimToken, int attempts, LocalDateTime nextAttemptAt);
+}
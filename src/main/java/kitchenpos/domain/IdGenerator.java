@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public interface IdGenerator {
+
+    UUID generate();
+}
@@ -0,0 +1,11 @@
+package kitchenpos.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JdbcDailySalesRollupRepository {
+
+    void addAll(List<DailySalesRollup> deltas);
+
+    int rebuild(LocalDate salesDate);
+}
@@ -0,0 +1,76 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class JdbcDailySalesRollupRepositoryImpl implements JdbcDailySalesRollupRepository {
+    private static final String ADD_TO_ROLLUP =
+        "insert into daily_sales_rollup (order_count, quantity, amount, sales_date, menu_id, order_type) values (?, ?, ?, ?, ?, ?)"
+            + " as new on duplicate key update order_count = order_count + new.order_count,"
+            + " quantity = quantity + new.quantity, amount = amount + new.amount";
+    private static final String DELETE_ROLLUP = "delete from daily_sales_rollup where sales_date = ?";
+    private static final String REBUILD_ROLLUP =
+        "insert into daily_sales_rollup (order_count, quantity, amount, sales_date, menu_id, order_type)"
+            + " select count(distinct o.id), sum(oli.quantity), sum(oli.price * oli.quantity), ?, oli.menu_id, o.type"
+            + " from orders o join order_line_item oli on oli.order_id = o.id"
+            + " where o.status = 'COMPLETED' and o.order_date_time >= ? and o.order_date_time < ?"
+            + " group by oli.menu_id, o.type";
+    private static final Comparator<DailySalesRollup> LOCK_ORDER = Comparator
+        .comparing((DailySalesRollup rollup) -> rollup.getId().getSalesDate())
+        .thenComparing(rollup -> rollup.getId().getMenuId())
+        .thenComparing(rollup -> rollup.getId().getOrderType());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDailySalesRollupRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(final List<DailySalesRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_TO_ROLLUP, toParameters(deltas));
+    }
+
+    @Override
+    public int rebuild(final LocalDate salesDate) {
+        jdbcTemplate.update(DELETE_ROLLUP, Date.valueOf(salesDate));
+        return jdbcTemplate.update(
+            REBUILD_ROLLUP,
+            Date.valueOf(salesDate),
+            Timestamp.valueOf(salesDate.atStartOfDay()),
+            Timestamp.valueOf(salesDate.plusDays(1).atStartOfDay())
+        );
+    }
+
+    private static List<Object[]> toParameters(final List<DailySalesRollup> deltas) {
+        return deltas.stream()
+            .sorted(LOCK_ORDER)
+            .map(delta -> new Object[]{
+                delta.getOrderCount(),
+                delta.getQuantity(),
+                delta.getAmount(),
+                Date.valueOf(delta.getId().getSalesDate()),
+                toBytes(delta.getId().getMenuId()),
+                delta.getId().getOrderType().name()
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+public class JdbcMenuRepositoryImpl implements JdbcMenuRepository {
+    static final String SELECT_MENUS_EXCEEDING_PRODUCTS_PRICE =
+        "select id from menu"
+            + " where displayed = true"
+            + " and id in (select mp.menu_id from menu_product mp where mp.product_id = :productId)"
+            + " and price > (select sum(p.price * mp.quantity) from menu_product mp"
+            + " join product p on p.id = mp.product_id"
+            + " where mp.menu_id = menu.id)"
+            + " for update";
+    static final String HIDE_MENUS = "update menu set displayed = false where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public JdbcMenuRepositoryImpl(final NamedParameterJdbcTemplate jdbcTemplate, final EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int hideAllExceedingProductsPrice(final UUID productId) {
+        entityManager.flush();
+        final List<byte[]> ids = jdbcTemplate.queryForList(
+            SELECT_MENUS_EXCEEDING_PRODUCTS_PRICE,
+            new MapSqlParameterSource("productId", toBytes(productId)),
+            byte[].class
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final int hidden = jdbcTemplate.update(HIDE_MENUS, new MapSqlParameterSource("ids", ids));
+        refreshLoaded(ids);
+        return hidden;
+    }
+
+    // the update bypasses the persistence context, so reload only the hidden menus the caller has already read;
+    // getReference hands back the managed instance when there is one and a bare proxy otherwise, which is dropped
+    private void refreshLoaded(final List<byte[]> ids) {
+        final PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        for (final byte[] id : ids) {
+            final Menu menu = entityManager.getReference(Menu.class, toUuid(id));
+            if (persistenceUnitUtil.isLoaded(menu)) {
+                entityManager.refresh(menu);
+            } else {
+                entityManager.detach(menu);
+            }
+        }
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    private static UUID toUuid(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
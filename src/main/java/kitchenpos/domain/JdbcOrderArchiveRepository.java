@@ -0,0 +1,21 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JdbcOrderArchiveRepository {
+
+    int archiveCompletedBefore(LocalDateTime completedBefore, int limit);
+
+    Optional<Order> findById(UUID id);
+
+    List<Order> findAllByCursor(
+        OrderType type,
+        UUID orderTableId,
+        LocalDateTime cursorOrderDateTime,
+        UUID cursorId,
+        int size
+    );
+}
@@ -0,0 +1,174 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class JdbcOrderArchiveRepositoryImpl implements JdbcOrderArchiveRepository {
+    // a completed order never changes status again, so status_changed_at is its completion time; locked rows are
+    // skipped so archivers running on several instances take disjoint batches
+    private static final String SELECT_ARCHIVABLE_IDS =
+        "select id from orders where status = 'COMPLETED' and status_changed_at < :completedBefore"
+            + " order by status_changed_at, id limit :limit for update skip locked";
+    private static final String COPY_ORDERS =
+        "insert into orders_archive (id, delivery_address, order_date_time, status_changed_at, total_price, status, type, order_table_id,"
+            + " accepted_at, served_at, delivery_started_at, delivered_at, completed_at, archived_at)"
+            + " select id, delivery_address, order_date_time, status_changed_at, total_price, status, type, order_table_id,"
+            + " accepted_at, served_at, delivery_started_at, delivered_at, completed_at, :archivedAt"
+            + " from orders where id in (:ids)";
+    private static final String COPY_ORDER_LINE_ITEMS =
+        "insert into order_line_item_archive (seq, price, quantity, menu_id, order_id)"
+            + " select seq, price, quantity, menu_id, order_id from order_line_item where order_id in (:ids)";
+    private static final String DELETE_ORDER_LINE_ITEMS = "delete from order_line_item where order_id in (:ids)";
+    private static final String DELETE_ORDERS = "delete from orders where id in (:ids)";
+    private static final String SELECT_ORDERS =
+        "select id, delivery_address, order_date_time, status_changed_at, total_price, status, type, order_table_id,"
+            + " accepted_at, served_at, delivery_started_at, delivered_at, completed_at from orders_archive";
+    private static final String SELECT_ORDER_LINE_ITEMS =
+        "select seq, price, quantity, menu_id, order_id from order_line_item_archive where order_id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderArchiveRepositoryImpl(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int archiveCompletedBefore(final LocalDateTime completedBefore, final int limit) {
+        final List<byte[]> ids = jdbcTemplate.queryForList(
+            SELECT_ARCHIVABLE_IDS,
+            new MapSqlParameterSource()
+                .addValue("completedBefore", completedBefore)
+                .addValue("limit", limit),
+            byte[].class
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", LocalDateTime.now());
+        jdbcTemplate.update(COPY_ORDERS, parameters);
+        jdbcTemplate.update(COPY_ORDER_LINE_ITEMS, parameters);
+        jdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, parameters);
+        return jdbcTemplate.update(DELETE_ORDERS, parameters);
+    }
+
+    @Override
+    public Optional<Order> findById(final UUID id) {
+        final List<Order> orders = jdbcTemplate.query(
+            SELECT_ORDERS + " where id = :id",
+            new MapSqlParameterSource("id", toBytes(id)),
+            orderRowMapper()
+        );
+        return withOrderLineItems(orders).stream().findFirst();
+    }
+
+    @Override
+    public List<Order> findAllByCursor(
+        final OrderType type,
+        final UUID orderTableId,
+        final LocalDateTime cursorOrderDateTime,
+        final UUID cursorId,
+        final int size
+    ) {
+        final StringBuilder sql = new StringBuilder(SELECT_ORDERS).append(" where 1 = 1");
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("size", size);
+        if (Objects.nonNull(type)) {
+            sql.append(" and type = :type");
+            parameters.addValue("type", type.name());
+        }
+        if (Objects.nonNull(orderTableId)) {
+            sql.append(" and order_table_id = :orderTableId");
+            parameters.addValue("orderTableId", toBytes(orderTableId));
+        }
+        if (Objects.nonNull(cursorOrderDateTime)) {
+            sql.append(" and (order_date_time < :cursorOrderDateTime")
+                .append(" or (order_date_time = :cursorOrderDateTime and id < :cursorId))");
+            parameters.addValue("cursorOrderDateTime", cursorOrderDateTime)
+                .addValue("cursorId", toBytes(cursorId));
+        }
+        sql.append(" order by order_date_time desc, id desc limit :size");
+        return withOrderLineItems(jdbcTemplate.query(sql.toString(), parameters, orderRowMapper()));
+    }
+
+    private List<Order> withOrderLineItems(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        final List<byte[]> ids = orders.stream()
+            .map(order -> toBytes(order.getId()))
+            .collect(Collectors.toList());
+        final Map<UUID, List<OrderLineItem>> orderLineItems = new HashMap<>();
+        jdbcTemplate.query(SELECT_ORDER_LINE_ITEMS, new MapSqlParameterSource("ids", ids), resultSet -> {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setSeq(resultSet.getLong("seq"));
+            orderLineItem.setPrice(resultSet.getBigDecimal("price"));
+            orderLineItem.setQuantity(resultSet.getLong("quantity"));
+            orderLineItem.setMenuId(toUuid(resultSet.getBytes("menu_id")));
+            orderLineItems.computeIfAbsent(toUuid(resultSet.getBytes("order_id")), key -> new ArrayList<>())
+                .add(orderLineItem);
+        });
+        orders.forEach(order -> order.setOrderLineItems(
+            orderLineItems.getOrDefault(order.getId(), Collections.emptyList())
+        ));
+        return orders;
+    }
+
+    private static RowMapper<Order> orderRowMapper() {
+        return (resultSet, rowNum) -> {
+            final Order order = new Order();
+            order.setId(toUuid(resultSet.getBytes("id")));
+            order.setDeliveryAddress(resultSet.getString("delivery_address"));
+            order.setOrderDateTime(resultSet.getTimestamp("order_date_time").toLocalDateTime());
+            order.setStatusChangedAt(resultSet.getTimestamp("status_changed_at").toLocalDateTime());
+            order.setAcceptedAt(toLocalDateTimeOrNull(resultSet, "accepted_at"));
+            order.setServedAt(toLocalDateTimeOrNull(resultSet, "served_at"));
+            order.setDeliveryStartedAt(toLocalDateTimeOrNull(resultSet, "delivery_started_at"));
+            order.setDeliveredAt(toLocalDateTimeOrNull(resultSet, "delivered_at"));
+            order.setCompletedAt(toLocalDateTimeOrNull(resultSet, "completed_at"));
+            order.setTotalPrice(resultSet.getBigDecimal("total_price"));
+            order.setStatus(OrderStatus.valueOf(resultSet.getString("status")));
+            order.setType(OrderType.valueOf(resultSet.getString("type")));
+            order.setOrderTableId(toUuidOrNull(resultSet, "order_table_id"));
+            return order;
+        };
+    }
+
+    private static LocalDateTime toLocalDateTimeOrNull(final ResultSet resultSet, final String column) throws SQLException {
+        final Timestamp timestamp = resultSet.getTimestamp(column);
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime();
+    }
+
+    private static UUID toUuidOrNull(final ResultSet resultSet, final String column) throws SQLException {
+        final byte[] bytes = resultSet.getBytes(column);
+        return Objects.isNull(bytes) ? null : toUuid(bytes);
+    }
+
+    private static UUID toUuid(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,10 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+
+public interface JdbcOrderIdempotencyKeyRepository {
+
+    boolean insertIfAbsent(OrderIdempotencyKey orderIdempotencyKey);
+
+    int deleteCreatedBefore(LocalDateTime createdAt, int limit);
+}
@@ -0,0 +1,49 @@
+package kitchenpos.domain;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class JdbcOrderIdempotencyKeyRepositoryImpl implements JdbcOrderIdempotencyKeyRepository {
+    private static final String INSERT_ORDER_IDEMPOTENCY_KEY =
+        "insert into order_idempotency_key (idempotency_key, order_id, created_at) values (?, ?, ?)";
+    private static final String DELETE_CREATED_BEFORE =
+        "delete from order_idempotency_key where created_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderIdempotencyKeyRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(final OrderIdempotencyKey orderIdempotencyKey) {
+        try {
+            jdbcTemplate.update(
+                INSERT_ORDER_IDEMPOTENCY_KEY,
+                orderIdempotencyKey.getIdempotencyKey(),
+                toBytes(orderIdempotencyKey.getOrderId()),
+                Timestamp.valueOf(orderIdempotencyKey.getCreatedAt())
+            );
+            return true;
+        } catch (final DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public int deleteCreatedBefore(final LocalDateTime createdAt, final int limit) {
+        return jdbcTemplate.update(DELETE_CREATED_BEFORE, Timestamp.valueOf(createdAt), limit);
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
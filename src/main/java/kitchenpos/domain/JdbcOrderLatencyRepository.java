@@ -0,0 +1,9 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JdbcOrderLatencyRepository {
+
+    List<OrderLatencyBucket> findHistogramEndedBetween(OrderLatency latency, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,54 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class JdbcOrderLatencyRepositoryImpl implements JdbcOrderLatencyRepository {
+    private static final int BUCKETS_PER_E_FOLD = 100;
+    private static final Map<OrderLatency, String> SELECT_HISTOGRAM_ENDED_BETWEEN = new EnumMap<>(OrderLatency.class);
+
+    static {
+        for (final OrderLatency latency : OrderLatency.values()) {
+            SELECT_HISTOGRAM_ENDED_BETWEEN.put(latency, String.format(
+                "select bucket, count(*) as order_count, max(duration_millis) as max_millis from ("
+                    + "select floor(ln(duration_millis + 1) * %3$d) as bucket, duration_millis from ("
+                    + "select greatest(floor(timestampdiff(microsecond, %1$s, %2$s) / 1000), 0) as duration_millis"
+                    + " from orders where %2$s >= :from and %2$s < :to and %1$s is not null"
+                    + ") durations"
+                    + ") buckets group by bucket order by bucket",
+                latency.getStartColumn(),
+                latency.getEndColumn(),
+                BUCKETS_PER_E_FOLD
+            ));
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderLatencyRepositoryImpl(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<OrderLatencyBucket> findHistogramEndedBetween(
+        final OrderLatency latency,
+        final LocalDateTime from,
+        final LocalDateTime to
+    ) {
+        return jdbcTemplate.query(
+            SELECT_HISTOGRAM_ENDED_BETWEEN.get(latency),
+            new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to),
+            (resultSet, rowNum) -> new OrderLatencyBucket(
+                resultSet.getLong("order_count"),
+                resultSet.getLong("max_millis")
+            )
+        );
+    }
+}
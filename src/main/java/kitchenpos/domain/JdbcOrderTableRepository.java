@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+public interface JdbcOrderTableRepository {
+
+    int reconcileOpenOrderCounts();
+}
@@ -0,0 +1,27 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+
+public class JdbcOrderTableRepositoryImpl implements JdbcOrderTableRepository {
+    static final String OPEN_ORDER_COUNT =
+        "(select count(*) from orders o where o.order_table_id = order_table.id and o.status <> 'COMPLETED')";
+    static final String RECONCILE_OPEN_ORDER_COUNTS =
+        "update order_table set open_order_count = " + OPEN_ORDER_COUNT + ", version = version + 1"
+            + " where open_order_count <> " + OPEN_ORDER_COUNT;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public JdbcOrderTableRepositoryImpl(final JdbcTemplate jdbcTemplate, final EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int reconcileOpenOrderCounts() {
+        entityManager.flush();
+        return jdbcTemplate.update(RECONCILE_OPEN_ORDER_COUNTS);
+    }
+}
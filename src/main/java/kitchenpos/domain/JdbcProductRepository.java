@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface JdbcProductRepository {
+
+    void insertAll(List<Product> products);
+}
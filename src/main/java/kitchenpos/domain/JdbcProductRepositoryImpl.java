@@ -0,0 +1,39 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class JdbcProductRepositoryImpl implements JdbcProductRepository {
+    private static final String INSERT_PRODUCT = "insert into product (id, name, price) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, products.stream()
+            .map(product -> new Object[]{
+                toBytes(product.getId()),
+                product.getName(),
+                product.getPrice()
+            })
+            .collect(Collectors.toList()));
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
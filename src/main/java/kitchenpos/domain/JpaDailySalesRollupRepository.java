@@ -0,0 +1,22 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaDailySalesRollupRepository
+    extends DailySalesRollupRepository, JpaRepository<DailySalesRollup, DailySalesRollupId>, JdbcDailySalesRollupRepository {
+
+    @Query("select r from DailySalesRollup r where r.id.salesDate between :from and :to"
+        + " order by r.id.salesDate, r.id.orderType, r.id.menuId")
+    @Override
+    List<DailySalesRollup> findAllBySalesDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Transactional
+    @Override
+    int rebuild(LocalDate salesDate);
+}
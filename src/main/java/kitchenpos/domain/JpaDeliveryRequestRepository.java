@@ -0,0 +1,45 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaDeliveryRequestRepository extends DeliveryRequestRepository, JpaRepository<DeliveryRequest, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryRequest d set d.claimToken = :claimToken, d.nextAttemptAt = :leaseUntil"
+        + " where d.id in :ids and d.status = kitchenpos.domain.DeliveryRequestStatus.PENDING"
+        + " and d.nextAttemptAt <= :now")
+    @Override
+    int claimAll(
+        @Param("ids") List<UUID> ids,
+        @Param("now") LocalDateTime now,
+        @Param("claimToken") UUID claimToken,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryRequest d set d.status = :status, d.attempts = d.attempts + 1, d.claimToken = null"
+        + " where d.claimToken = :claimToken")
+    @Override
+    int completeClaim(@Param("claimToken") UUID claimToken, @Param("status") DeliveryRequestStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryRequest d set d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt, d.claimToken = null"
+        + " where d.claimToken = :claimToken and d.attempts = :attempts")
+    @Override
+    int releaseClaim(
+        @Param("claimToken") UUID claimToken,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt
+    );
+}
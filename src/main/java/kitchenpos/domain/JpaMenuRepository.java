@@ -7,9 +7,13 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.UUID;
 
-public interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID> {
+public interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID>, JdbcMenuRepository {
 
-    @Query("select m from Menu m, MenuProduct mp where mp.product.id = :productId")
+    @Query("select m from Menu m join fetch m.menuGroup where m.id in :ids")
+    @Override
+    List<Menu> findAllByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select distinct m from Menu m join m.menuProducts mp where mp.product.id = :productId")
     @Override
     List<Menu> findAllByProductId(@Param("productId") UUID productId);
 }
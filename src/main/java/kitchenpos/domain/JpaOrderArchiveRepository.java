@@ -0,0 +1,15 @@
+package kitchenpos.domain;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JpaOrderArchiveRepository
+    extends OrderArchiveRepository, Repository<Order, UUID>, JdbcOrderArchiveRepository {
+
+    @Transactional
+    @Override
+    int archiveCompletedBefore(LocalDateTime completedBefore, int limit);
+}
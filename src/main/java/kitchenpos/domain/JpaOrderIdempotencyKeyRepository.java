@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaOrderIdempotencyKeyRepository
+    extends OrderIdempotencyKeyRepository, JpaRepository<OrderIdempotencyKey, String>, JdbcOrderIdempotencyKeyRepository {
+
+}
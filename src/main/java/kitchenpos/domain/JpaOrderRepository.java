@@ -1,8 +1,32 @@
 package kitchenpos.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, UUID> {
+public interface JpaOrderRepository extends OrderRepository, OrderLatencyRepository, JpaRepository<Order, UUID>,
+    BatchOrderRepository, StreamingOrderRepository, JdbcOrderLatencyRepository {
+
+    @Query("select o from Order o"
+        + " where (:status is null or o.status = :status)"
+        + " and (:type is null or o.type = :type)"
+        + " and (:orderTableId is null or o.orderTable.id = :orderTableId)"
+        + " and (:cursorOrderDateTime is null"
+        + " or o.orderDateTime < :cursorOrderDateTime"
+        + " or (o.orderDateTime = :cursorOrderDateTime and o.id < :cursorId))"
+        + " order by o.orderDateTime desc, o.id desc")
+    @Override
+    List<Order> findAllByCursor(
+        @Param("status") OrderStatus status,
+        @Param("type") OrderType type,
+        @Param("orderTableId") UUID orderTableId,
+        @Param("cursorOrderDateTime") LocalDateTime cursorOrderDateTime,
+        @Param("cursorId") UUID cursorId,
+        Pageable pageable
+    );
 }
@@ -4,6 +4,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
 
-public interface JpaOrderTableRepository extends OrderTableRepository, JpaRepository<OrderTable, UUID> {
+public interface JpaOrderTableRepository extends OrderTableRepository, JpaRepository<OrderTable, UUID>, JdbcOrderTableRepository {
 
 }
@@ -4,6 +4,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
 
-public interface JpaProductRepository extends ProductRepository, JpaRepository<Product, UUID> {
+public interface JpaProductRepository extends ProductRepository, JpaRepository<Product, UUID>, JdbcProductRepository {
 
 }
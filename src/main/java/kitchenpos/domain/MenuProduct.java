@@ -7,7 +7,8 @@ import java.util.UUID;
 @Entity
 public class MenuProduct {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_product_seq")
+    @SequenceGenerator(name = "menu_product_seq", sequenceName = "menu_product_seq", allocationSize = 50)
     @Id
     private Long seq;
 
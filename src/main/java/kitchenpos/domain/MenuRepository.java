@@ -15,4 +15,6 @@ public interface MenuRepository {
     List<Menu> findAllByIdIn(List<UUID> ids);
 
     List<Menu> findAllByProductId(UUID productId);
+
+    int hideAllExceedingProductsPrice(UUID productId);
 }
@@ -1,6 +1,7 @@
 package kitchenpos.domain;
 
 import javax.persistence.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +24,27 @@ public class Order {
     @Column(name = "order_date_time", nullable = false)
     private LocalDateTime orderDateTime;
 
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "accepted_at")
+    private LocalDateTime acceptedAt;
+
+    @Column(name = "served_at")
+    private LocalDateTime servedAt;
+
+    @Column(name = "delivery_started_at")
+    private LocalDateTime deliveryStartedAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "order_id",
@@ -43,6 +65,10 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Transient
     private UUID orderTableId;
 
@@ -81,6 +107,62 @@ public class Order {
         this.orderDateTime = orderDateTime;
     }
 
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+
+    public void setStatusChangedAt(final LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+    }
+
+    public LocalDateTime getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(final LocalDateTime acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public LocalDateTime getServedAt() {
+        return servedAt;
+    }
+
+    public void setServedAt(final LocalDateTime servedAt) {
+        this.servedAt = servedAt;
+    }
+
+    public LocalDateTime getDeliveryStartedAt() {
+        return deliveryStartedAt;
+    }
+
+    public void setDeliveryStartedAt(final LocalDateTime deliveryStartedAt) {
+        this.deliveryStartedAt = deliveryStartedAt;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(final LocalDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(final LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(final BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
     public List<OrderLineItem> getOrderLineItems() {
         return orderLineItems;
     }
@@ -105,6 +187,14 @@ public class Order {
         this.orderTable = orderTable;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public UUID getOrderTableId() {
         return orderTableId;
     }
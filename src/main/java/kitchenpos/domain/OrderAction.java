@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum OrderAction {
+    ACCEPT, SERVE, START_DELIVERY, COMPLETE_DELIVERY, COMPLETE
+}
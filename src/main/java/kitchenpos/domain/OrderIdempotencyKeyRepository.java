@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+
+    boolean insertIfAbsent(OrderIdempotencyKey orderIdempotencyKey);
+
+    Optional<OrderIdempotencyKey> findById(String idempotencyKey);
+
+    int deleteCreatedBefore(LocalDateTime createdAt, int limit);
+}
@@ -0,0 +1,24 @@
+package kitchenpos.domain;
+
+public enum OrderLatency {
+    ACCEPT("order_date_time", "accepted_at"),
+    PREPARATION("accepted_at", "served_at"),
+    DELIVERY("delivery_started_at", "delivered_at"),
+    FULFILLMENT("order_date_time", "completed_at");
+
+    private final String startColumn;
+    private final String endColumn;
+
+    OrderLatency(final String startColumn, final String endColumn) {
+        this.startColumn = startColumn;
+        this.endColumn = endColumn;
+    }
+
+    public String getStartColumn() {
+        return startColumn;
+    }
+
+    public String getEndColumn() {
+        return endColumn;
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+public class OrderLatencyBucket {
+    private final long count;
+    private final long maxMillis;
+
+    public OrderLatencyBucket(final long count, final long maxMillis) {
+        this.count = count;
+        this.maxMillis = maxMillis;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+}
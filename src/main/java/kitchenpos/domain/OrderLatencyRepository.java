@@ -0,0 +1,9 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderLatencyRepository {
+
+    List<OrderLatencyBucket> findHistogramEndedBetween(OrderLatency latency, LocalDateTime from, LocalDateTime to);
+}
@@ -8,7 +8,8 @@ import java.util.UUID;
 @Entity
 public class OrderLineItem {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_item_seq")
+    @SequenceGenerator(name = "order_line_item_seq", sequenceName = "order_line_item_seq", allocationSize = 50)
     @Id
     private Long seq;
 
@@ -26,7 +27,7 @@ public class OrderLineItem {
     @Transient
     private UUID menuId;
 
-    @Transient
+    @Column(name = "price", nullable = false)
     private BigDecimal price;
 
     public OrderLineItem() {
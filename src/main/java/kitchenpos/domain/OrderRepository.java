@@ -1,16 +1,33 @@
 package kitchenpos.domain;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    void insertAll(List<Order> orders);
+
     Optional<Order> findById(UUID id);
 
     List<Order> findAll();
 
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+    List<Order> findAllByIdIn(List<UUID> ids);
+
+    Stream<Order> streamAllBy();
+
+    List<Order> findAllByCursor(
+        OrderStatus status,
+        OrderType type,
+        UUID orderTableId,
+        LocalDateTime cursorOrderDateTime,
+        UUID cursorId,
+        Pageable pageable
+    );
 }
@@ -4,6 +4,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.UUID;
 
 @Table(name = "order_table")
@@ -22,6 +23,13 @@ public class OrderTable {
     @Column(name = "occupied", nullable = false)
     private boolean occupied;
 
+    @Column(name = "open_order_count", nullable = false)
+    private int openOrderCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public OrderTable() {
     }
 
@@ -56,4 +64,20 @@ public class OrderTable {
     public void setOccupied(final boolean occupied) {
         this.occupied = occupied;
     }
+
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final int openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
 }
@@ -11,4 +11,8 @@ public interface OrderTableRepository {
     Optional<OrderTable> findById(UUID id);
 
     List<OrderTable> findAll();
+
+    List<OrderTable> findAllByIdIn(List<UUID> ids);
+
+    int reconcileOpenOrderCounts();
 }
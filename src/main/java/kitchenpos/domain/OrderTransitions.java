@@ -0,0 +1,46 @@
+package kitchenpos.domain;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class OrderTransitions {
+    private final Map<OrderType, Map<OrderAction, Map<OrderStatus, OrderStatus>>> transitions = new EnumMap<>(OrderType.class);
+
+    public static OrderTransitions standard() {
+        final OrderTransitions orderTransitions = new OrderTransitions();
+        for (final OrderType type : OrderType.values()) {
+            orderTransitions.register(type, OrderAction.ACCEPT, OrderStatus.WAITING, OrderStatus.ACCEPTED);
+            orderTransitions.register(type, OrderAction.SERVE, OrderStatus.ACCEPTED, OrderStatus.SERVED);
+        }
+        orderTransitions.register(OrderType.DELIVERY, OrderAction.START_DELIVERY, OrderStatus.SERVED, OrderStatus.DELIVERING);
+        orderTransitions.register(OrderType.DELIVERY, OrderAction.COMPLETE_DELIVERY, OrderStatus.DELIVERING, OrderStatus.DELIVERED);
+        orderTransitions.register(OrderType.DELIVERY, OrderAction.COMPLETE, OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+        orderTransitions.register(OrderType.TAKEOUT, OrderAction.COMPLETE, OrderStatus.SERVED, OrderStatus.COMPLETED);
+        orderTransitions.register(OrderType.EAT_IN, OrderAction.COMPLETE, OrderStatus.SERVED, OrderStatus.COMPLETED);
+        return orderTransitions;
+    }
+
+    public OrderTransitions register(final OrderType type, final OrderAction action, final OrderStatus from, final OrderStatus to) {
+        transitions.computeIfAbsent(type, key -> new EnumMap<>(OrderAction.class))
+            .computeIfAbsent(action, key -> new EnumMap<>(OrderStatus.class))
+            .put(from, to);
+        return this;
+    }
+
+    public OrderStatus next(final OrderType type, final OrderAction action, final OrderStatus from) {
+        final Map<OrderAction, Map<OrderStatus, OrderStatus>> actions = transitions.get(type);
+        if (Objects.isNull(actions)) {
+            throw new IllegalStateException();
+        }
+        final Map<OrderStatus, OrderStatus> statuses = actions.get(action);
+        if (Objects.isNull(statuses)) {
+            throw new IllegalStateException();
+        }
+        final OrderStatus to = statuses.get(from);
+        if (Objects.isNull(to)) {
+            throw new IllegalStateException();
+        }
+        return to;
+    }
+}
@@ -7,6 +7,8 @@ import java.util.UUID;
 public interface ProductRepository {
     Product save(Product product);
 
+    void insertAll(List<Product> products);
+
     Optional<Product> findById(UUID id);
 
     List<Product> findAll();
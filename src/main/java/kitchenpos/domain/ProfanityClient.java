@@ -1,6 +1,20 @@
 package kitchenpos.domain;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 public interface ProfanityClient {
 
     boolean containsProfanity(final String text);
+
+    default Set<String> findProfane(final Collection<String> texts) {
+        final Set<String> profane = new HashSet<>();
+        for (final String text : texts) {
+            if (containsProfanity(text)) {
+                profane.add(text);
+            }
+        }
+        return profane;
+    }
 }
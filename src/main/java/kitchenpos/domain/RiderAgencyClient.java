@@ -1,9 +1,12 @@
 package kitchenpos.domain;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public interface RiderAgencyClient {
 
     void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress);
+
+    void requestDeliveries(final List<DeliveryRequest> deliveryRequests);
 }
@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.util.stream.Stream;
+
+public interface StreamingOrderRepository {
+
+    Stream<Order> streamAllBy();
+}
@@ -0,0 +1,45 @@
+package kitchenpos.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public class StreamingOrderRepositoryImpl implements StreamingOrderRepository {
+    private static final String SELECT_MENUS = "select distinct m from Menu m"
+        + " join fetch m.menuGroup"
+        + " left join fetch m.menuProducts mp"
+        + " left join fetch mp.product";
+    private static final String SELECT_ORDERS = "select o from Order o"
+        + " left join fetch o.orderLineItems oli"
+        + " left join fetch oli.menu"
+        + " left join fetch o.orderTable"
+        + " order by o.orderDateTime, o.id";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public StreamingOrderRepositoryImpl(
+        final EntityManager entityManager,
+        @Value("${kitchenpos.order.export.fetch-size:" + Integer.MIN_VALUE + "}") final int fetchSize
+    ) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<Order> streamAllBy() {
+        // a streaming result set blocks every other statement on the connection until it is closed,
+        // so the menus the line items point to are loaded up front instead of lazily per order
+        entityManager.createQuery(SELECT_MENUS, Menu.class)
+            .setHint(HINT_READONLY, true)
+            .getResultList();
+        return entityManager.createQuery(SELECT_ORDERS, Order.class)
+            .setHint(HINT_FETCH_SIZE, fetchSize)
+            .setHint(HINT_READONLY, true)
+            .getResultStream();
+    }
+}
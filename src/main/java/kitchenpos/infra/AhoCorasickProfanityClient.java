@@ -0,0 +1,280 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.ProfanityClient;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class AhoCorasickProfanityClient implements ProfanityClient {
+    static final char SKIP = '\0';
+
+    private static final int ROOT = 0;
+    private static final byte NONE = 0;
+    private static final byte PROFANE = 1;
+    private static final byte ALLOWED = 2;
+
+    private final int[] transitionOffsets;
+    private final char[] transitionChars;
+    private final int[] transitionTargets;
+    private final int[] failures;
+    private final int[] depths;
+    private final byte[] kinds;
+
+    public AhoCorasickProfanityClient(final Collection<String> words) {
+        this(words, List.of());
+    }
+
+    public AhoCorasickProfanityClient(final Collection<String> words, final Collection<String> allowedWords) {
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<Byte> kind = new ArrayList<>();
+        final List<Integer> depth = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        kind.add(NONE);
+        depth.add(0);
+        for (final String word : words) {
+            insert(trie, kind, depth, word, PROFANE);
+        }
+        for (final String word : allowedWords) {
+            insert(trie, kind, depth, word, ALLOWED);
+        }
+
+        final int size = trie.size();
+        this.transitionOffsets = new int[size + 1];
+        final int transitions = trie.stream().mapToInt(Map::size).sum();
+        this.transitionChars = new char[transitions];
+        this.transitionTargets = new int[transitions];
+        int offset = 0;
+        for (int state = 0; state < size; state++) {
+            transitionOffsets[state] = offset;
+            for (final Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                transitionChars[offset] = edge.getKey();
+                transitionTargets[offset] = edge.getValue();
+                offset++;
+            }
+        }
+        transitionOffsets[size] = offset;
+
+        this.failures = new int[size];
+        this.depths = new int[size];
+        this.kinds = new byte[size];
+        for (int state = 0; state < size; state++) {
+            depths[state] = depth.get(state);
+            kinds[state] = kind.get(state);
+        }
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int i = transitionOffsets[ROOT]; i < transitionOffsets[ROOT + 1]; i++) {
+            failures[transitionTargets[i]] = ROOT;
+            queue.add(transitionTargets[i]);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int i = transitionOffsets[state]; i < transitionOffsets[state + 1]; i++) {
+                final int child = transitionTargets[i];
+                int failure = failures[state];
+                while (failure != ROOT && next(failure, transitionChars[i]) < 0) {
+                    failure = failures[failure];
+                }
+                final int candidate = next(failure, transitionChars[i]);
+                failures[child] = candidate < 0 || candidate == child ? ROOT : candidate;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static void insert(
+        final List<Map<Character, Integer>> trie,
+        final List<Byte> kind,
+        final List<Integer> depth,
+        final String word,
+        final byte wordKind
+    ) {
+        int state = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            final char c = normalize(word.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+            Integer next = trie.get(state).get(c);
+            if (Objects.isNull(next)) {
+                next = trie.size();
+                trie.add(new TreeMap<>());
+                kind.add(NONE);
+                depth.add(depth.get(state) + 1);
+                trie.get(state).put(c, next);
+            }
+            state = next;
+        }
+        if (state != ROOT && kind.get(state) != ALLOWED) {
+            kind.set(state, wordKind);
+        }
+    }
+
+    public static AhoCorasickProfanityClient load(final Resource resource) {
+        return new AhoCorasickProfanityClient(readWords(resource));
+    }
+
+    public static AhoCorasickProfanityClient load(final Resource resource, final Resource allowedResource) {
+        return new AhoCorasickProfanityClient(readWords(resource), readWords(allowedResource));
+    }
+
+    private static List<String> readWords(final Resource resource) {
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // matching runs on the folded text, so a hit only counts when no allowed word covers it and, if it spans
+    // whitespace, when it starts and ends on word boundaries: "시 발" is a spaced-out word, "스시 발사믹" is two
+    @Override
+    public boolean containsProfanity(final String text) {
+        final int[] words = new int[text.length()];
+        final int[] allowedStarts = new int[text.length()];
+        int[] profaneSpans = null;
+        int profaneCount = 0;
+        int length = 0;
+        int word = 0;
+        boolean gap = false;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                gap = true;
+                continue;
+            }
+            final char c = normalize(text.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+            if (gap && length > 0) {
+                word++;
+            }
+            gap = false;
+            final int end = length++;
+            words[end] = word;
+            allowedStarts[end] = Integer.MAX_VALUE;
+            int next = next(state, c);
+            while (next < 0 && state != ROOT) {
+                state = failures[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int output = state; output != ROOT; output = failures[output]) {
+                final int start = end - depths[output] + 1;
+                if (kinds[output] == ALLOWED) {
+                    allowedStarts[end] = Math.min(allowedStarts[end], start);
+                } else if (kinds[output] == PROFANE) {
+                    if (Objects.isNull(profaneSpans)) {
+                        profaneSpans = new int[text.length() * 2];
+                    } else if (profaneCount * 2 == profaneSpans.length) {
+                        profaneSpans = Arrays.copyOf(profaneSpans, profaneSpans.length * 2);
+                    }
+                    profaneSpans[profaneCount * 2] = start;
+                    profaneSpans[profaneCount * 2 + 1] = end;
+                    profaneCount++;
+                }
+            }
+        }
+        if (profaneCount == 0) {
+            return false;
+        }
+        for (int end = length - 2; end >= 0; end--) {
+            allowedStarts[end] = Math.min(allowedStarts[end], allowedStarts[end + 1]);
+        }
+        for (int i = 0; i < profaneCount; i++) {
+            final int start = profaneSpans[i * 2];
+            final int end = profaneSpans[i * 2 + 1];
+            if (allowedStarts[end] <= start) {
+                continue;
+            }
+            if (words[start] != words[end] && !(isWordStart(words, start) && isWordEnd(words, end, length))) {
+                continue;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(final int[] words, final int index) {
+        return index == 0 || words[index - 1] != words[index];
+    }
+
+    private static boolean isWordEnd(final int[] words, final int index, final int length) {
+        return index == length - 1 || words[index + 1] != words[index];
+    }
+
+    private int next(final int state, final char c) {
+        int low = transitionOffsets[state];
+        int high = transitionOffsets[state + 1] - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final char candidate = transitionChars[middle];
+            if (candidate < c) {
+                low = middle + 1;
+            } else if (candidate > c) {
+                high = middle - 1;
+            } else {
+                return transitionTargets[middle];
+            }
+        }
+        return -1;
+    }
+
+    static char normalize(final char c) {
+        if (c >= '！' && c <= '～') {
+            return normalize((char) (c - 0xFEE0));
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ')) {
+            return c;
+        }
+        switch (c) {
+            case '0':
+                return 'o';
+            case '1':
+            case '!':
+            case '|':
+                return 'i';
+            case '3':
+                return 'e';
+            case '4':
+            case '@':
+                return 'a';
+            case '5':
+            case '$':
+                return 's';
+            case '7':
+            case '+':
+                return 't';
+            case '8':
+                return 'b';
+            default:
+                break;
+        }
+        if (Character.isLetter(c)) {
+            return Character.toLowerCase(c);
+        }
+        return SKIP;
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.infra;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Ticker;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.ProfanityClient;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class CachingProfanityClient implements ProfanityClient {
+    private static final String CACHE = "kitchenpos.profanity.cache";
+
+    private final ProfanityClient delegate;
+    private final long cleanTtlMillis;
+    private final long profaneTtlMillis;
+    private final LongSupplier clock;
+    private final Cache<String, CachedResult> cache;
+
+    public CachingProfanityClient(
+        final ProfanityClient delegate,
+        final int maximumSize,
+        final Duration cleanTtl,
+        final Duration profaneTtl,
+        final LongSupplier clock,
+        final MeterRegistry meterRegistry
+    ) {
+        if (maximumSize <= 0 || cleanTtl.isNegative() || profaneTtl.isNegative()) {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.cleanTtlMillis = cleanTtl.toMillis();
+        this.profaneTtlMillis = profaneTtl.toMillis();
+        this.clock = clock;
+        // the cache expires everything after the longer ttl, entries with the shorter one are dropped on read
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Math.max(cleanTtlMillis, profaneTtlMillis), TimeUnit.MILLISECONDS)
+            .ticker(new Ticker() {
+                @Override
+                public long read() {
+                    return TimeUnit.MILLISECONDS.toNanos(clock.getAsLong());
+                }
+            })
+            .build();
+        FunctionCounter.builder(CACHE + ".gets", cache, it -> it.stats().hitCount())
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder(CACHE + ".gets", cache, it -> it.stats().missCount())
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder(CACHE + ".evictions", cache, it -> it.stats().evictionCount())
+            .register(meterRegistry);
+        Gauge.builder(CACHE + ".size", cache, Cache::size).register(meterRegistry);
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        final long now = clock.getAsLong();
+        final CachedResult cached = get(text);
+        if (cached.writtenAt >= now || now - cached.writtenAt < ttlMillis(cached.profane)) {
+            return cached.profane;
+        }
+        cache.asMap().remove(text, cached);
+        return get(text).profane;
+    }
+
+    // concurrent misses for the same text wait for a single delegate call
+    private CachedResult get(final String text) {
+        try {
+            return cache.get(text, () -> new CachedResult(delegate.containsProfanity(text), clock.getAsLong()));
+        } catch (final ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private long ttlMillis(final boolean profane) {
+        return profane ? profaneTtlMillis : cleanTtlMillis;
+    }
+
+    private static class CachedResult {
+        private final boolean profane;
+        private final long writtenAt;
+
+        private CachedResult(final boolean profane, final long writtenAt) {
+            this.profane = profane;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
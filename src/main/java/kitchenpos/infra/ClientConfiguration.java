@@ -0,0 +1,103 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.ProfanityClient;
+import kitchenpos.domain.RiderAgencyClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@Configuration
+public class ClientConfiguration {
+    private static final String PROFANITY_ENGINE = "kitchenpos.client.profanity.engine";
+
+    private final MeterRegistry meterRegistry;
+
+    public ClientConfiguration(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ResilientExecutor riderAgencyExecutor(
+        @Value("${kitchenpos.client.rider-agency.max-concurrent-calls:10}") final int maxConcurrentCalls,
+        @Value("${kitchenpos.client.rider-agency.timeout:2s}") final Duration timeout,
+        @Value("${kitchenpos.client.rider-agency.failure-threshold:5}") final int failureThreshold,
+        @Value("${kitchenpos.client.rider-agency.open-duration:30s}") final Duration openDuration
+    ) {
+        return resilientExecutor("rider-agency", maxConcurrentCalls, timeout, failureThreshold, openDuration);
+    }
+
+    @Bean
+    public RiderAgencyClient riderAgencyClient(final ResilientExecutor riderAgencyExecutor) {
+        return new ResilientRiderAgencyClient(new KitchenridersClient(), riderAgencyExecutor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = PROFANITY_ENGINE, havingValue = "local")
+    public ProfanityClient localProfanityClient(
+        @Value("${kitchenpos.client.profanity.words:classpath:profanity/words.txt}") final Resource words,
+        @Value("${kitchenpos.client.profanity.allowed-words:classpath:profanity/allowed-words.txt}") final Resource allowedWords
+    ) {
+        return AhoCorasickProfanityClient.load(words, allowedWords);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = PROFANITY_ENGINE, havingValue = "remote", matchIfMissing = true)
+    public ResilientExecutor profanityExecutor(
+        @Value("${kitchenpos.client.profanity.max-concurrent-calls:20}") final int maxConcurrentCalls,
+        @Value("${kitchenpos.client.profanity.timeout:1s}") final Duration timeout,
+        @Value("${kitchenpos.client.profanity.failure-threshold:5}") final int failureThreshold,
+        @Value("${kitchenpos.client.profanity.open-duration:30s}") final Duration openDuration
+    ) {
+        return resilientExecutor("profanity", maxConcurrentCalls, timeout, failureThreshold, openDuration);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = PROFANITY_ENGINE, havingValue = "remote", matchIfMissing = true)
+    public ProfanityClient remoteProfanityClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final ResilientExecutor profanityExecutor,
+        @Value("${kitchenpos.client.profanity.timeout:1s}") final Duration timeout,
+        @Value("${kitchenpos.client.profanity.cache.enabled:true}") final boolean cacheEnabled,
+        @Value("${kitchenpos.client.profanity.cache.maximum-size:10000}") final int cacheMaximumSize,
+        @Value("${kitchenpos.client.profanity.cache.clean-ttl:10m}") final Duration cacheCleanTtl,
+        @Value("${kitchenpos.client.profanity.cache.profane-ttl:1h}") final Duration cacheProfaneTtl
+    ) {
+        final PurgomalumClient purgomalumClient = new PurgomalumClient(restTemplateBuilder
+            .setConnectTimeout(timeout)
+            .setReadTimeout(timeout));
+        final ProfanityClient profanityClient = new ResilientProfanityClient(purgomalumClient, profanityExecutor);
+        if (!cacheEnabled) {
+            return profanityClient;
+        }
+        return new CachingProfanityClient(
+            profanityClient,
+            cacheMaximumSize,
+            cacheCleanTtl,
+            cacheProfaneTtl,
+            System::currentTimeMillis,
+            meterRegistry
+        );
+    }
+
+    private ResilientExecutor resilientExecutor(
+        final String name,
+        final int maxConcurrentCalls,
+        final Duration timeout,
+        final int failureThreshold,
+        final Duration openDuration
+    ) {
+        return new ResilientExecutor(
+            name,
+            maxConcurrentCalls,
+            timeout,
+            new CircuitBreaker(failureThreshold, openDuration, System::currentTimeMillis),
+            meterRegistry
+        );
+    }
+}
@@ -1,15 +1,19 @@
 package kitchenpos.infra;
 
+import kitchenpos.domain.DeliveryRequest;
 import kitchenpos.domain.RiderAgencyClient;
-import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
-@Component
 public class KitchenridersClient implements RiderAgencyClient {
 
     @Override
     public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
     }
+
+    @Override
+    public void requestDeliveries(final List<DeliveryRequest> deliveryRequests) {
+    }
 }
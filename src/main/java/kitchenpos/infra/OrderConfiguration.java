@@ -0,0 +1,14 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.OrderTransitions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderConfiguration {
+
+    @Bean
+    public OrderTransitions orderTransitions() {
+        return OrderTransitions.standard();
+    }
+}
@@ -2,13 +2,11 @@ package kitchenpos.infra;
 
 import kitchenpos.domain.ProfanityClient;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 
-@Component
 public class PurgomalumClient implements ProfanityClient {
     private final RestTemplate restTemplate;
 
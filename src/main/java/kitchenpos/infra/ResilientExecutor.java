@@ -0,0 +1,154 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResilientExecutor implements DisposableBean {
+    private static final String CALLS = "kitchenpos.dependency.calls";
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientExecutor(
+        final String name,
+        final int maxConcurrentCalls,
+        final Duration timeout,
+        final CircuitBreaker circuitBreaker,
+        final MeterRegistry meterRegistry
+    ) {
+        if (maxConcurrentCalls <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException();
+        }
+        this.name = name;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.executor = Executors.newFixedThreadPool(maxConcurrentCalls, threadFactory(name));
+        this.timeout = timeout;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("kitchenpos.dependency.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .tag("dependency", name)
+            .register(meterRegistry);
+        Gauge.builder("kitchenpos.dependency.circuit.open", circuitBreaker, ResilientExecutor::isOpen)
+            .tag("dependency", name)
+            .register(meterRegistry);
+    }
+
+    public void run(final Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public <T> T call(final Callable<T> callable) {
+        if (!bulkhead.tryAcquire()) {
+            reject("bulkhead_full");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            reject("circuit_open");
+        }
+        boolean succeeded = false;
+        try {
+            final T result = execute(callable);
+            succeeded = true;
+            return result;
+        } finally {
+            if (succeeded) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    private <T> T execute(final Callable<T> callable) {
+        final long startedAt = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return callable.call();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            bulkhead.release();
+            record("rejected", startedAt);
+            throw e;
+        }
+        try {
+            final T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            record("success", startedAt);
+            return result;
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            record("timeout", startedAt);
+            throw new IllegalStateException(name + " timed out after " + timeout, e);
+        } catch (final ExecutionException e) {
+            record("failure", startedAt);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            record("interrupted", startedAt);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void reject(final String outcome) {
+        timer(outcome).record(0, TimeUnit.NANOSECONDS);
+        throw new IllegalStateException(name + " rejected the call: " + outcome);
+    }
+
+    private void record(final String outcome, final long startedAt) {
+        timer(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(final String outcome) {
+        return Timer.builder(CALLS)
+            .tag("dependency", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static double isOpen(final CircuitBreaker circuitBreaker) {
+        return circuitBreaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1;
+    }
+
+    private static ThreadFactory threadFactory(final String name) {
+        final AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
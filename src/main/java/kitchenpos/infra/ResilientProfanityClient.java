@@ -0,0 +1,18 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.ProfanityClient;
+
+public class ResilientProfanityClient implements ProfanityClient {
+    private final ProfanityClient delegate;
+    private final ResilientExecutor executor;
+
+    public ResilientProfanityClient(final ProfanityClient delegate, final ResilientExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return executor.call(() -> delegate.containsProfanity(text));
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.RiderAgencyClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class ResilientRiderAgencyClient implements RiderAgencyClient {
+    private final RiderAgencyClient delegate;
+    private final ResilientExecutor executor;
+
+    public ResilientRiderAgencyClient(final RiderAgencyClient delegate, final ResilientExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        executor.run(() -> delegate.requestDelivery(orderId, amount, deliveryAddress));
+    }
+
+    @Override
+    public void requestDeliveries(final List<DeliveryRequest> deliveryRequests) {
+        executor.run(() -> delegate.requestDeliveries(deliveryRequests));
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.IdGenerator;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+@Component
+public class UuidV7Generator implements IdGenerator {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final int SEQUENCE_MASK = 0x0FFF;
+
+    private final SecureRandom random = new SecureRandom();
+    private long lastMillis;
+    private int sequence;
+
+    @Override
+    public UUID generate() {
+        final long millis;
+        final int sequence;
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                this.sequence = random.nextInt(SEQUENCE_MASK + 1) >> 1;
+            } else if (++this.sequence > SEQUENCE_MASK) {
+                lastMillis++;
+                this.sequence = 0;
+            }
+            millis = lastMillis;
+            sequence = this.sequence;
+        }
+        final long mostSigBits = (millis << 16) | VERSION | sequence;
+        final long leastSigBits = (random.nextLong() >>> 2) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
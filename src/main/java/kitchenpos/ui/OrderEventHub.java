@@ -0,0 +1,107 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class OrderEventHub implements DisposableBean {
+    private static final String EVENT_NAME = "order-status-changed";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public OrderEventHub(
+        @Value("${kitchenpos.order.events.buffer-size:256}") final int bufferSize,
+        @Value("${kitchenpos.order.events.sender-threads:4}") final int senderThreads,
+        @Value("${kitchenpos.order.events.timeout:30m}") final Duration timeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = Executors.newFixedThreadPool(senderThreads);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(final SseEmitter emitter) {
+        final Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> evict(subscriber));
+        subscriber.emitter.onError(e -> evict(subscriber));
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void publish(final OrderStatusChangedEvent event) {
+        for (final Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(event)) {
+                evict(subscriber);
+                continue;
+            }
+            if (subscriber.draining.compareAndSet(false, true)) {
+                executor.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void drain(final Subscriber subscriber) {
+        do {
+            OrderStatusChangedEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+                } catch (final IOException | IllegalStateException e) {
+                    evict(subscriber);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void evict(final Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(this::evict);
+        executor.shutdownNow();
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<OrderStatusChangedEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(final SseEmitter emitter, final int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderLatencyReport;
+import kitchenpos.application.OrderLatencyReportService;
+import kitchenpos.domain.OrderLatency;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RequestMapping("/api/reports/order-latencies")
+@RestController
+public class OrderLatencyReportRestController {
+    private final OrderLatencyReportService orderLatencyReportService;
+
+    public OrderLatencyReportRestController(final OrderLatencyReportService orderLatencyReportService) {
+        this.orderLatencyReportService = orderLatencyReportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderLatencyReport> report(
+        @RequestParam final OrderLatency latency,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(orderLatencyReportService.report(latency, from, to));
+    }
+}
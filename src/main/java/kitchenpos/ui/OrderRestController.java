@@ -1,57 +1,117 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.OptimisticLockRetryExecutor;
+import kitchenpos.application.OrderBatchResult;
+import kitchenpos.application.OrderExportService;
+import kitchenpos.application.OrderSearchCondition;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderTransitionRequest;
+import kitchenpos.application.OrderTransitionResult;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIdempotencyKey;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderEventHub orderEventHub;
+    private final OptimisticLockRetryExecutor retryExecutor;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderExportService orderExportService,
+        final OrderEventHub orderEventHub,
+        final OptimisticLockRetryExecutor retryExecutor
+    ) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderEventHub = orderEventHub;
+        this.retryExecutor = retryExecutor;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
+    public ResponseEntity<Order> create(
+        @RequestHeader(value = "Idempotency-Key", required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        if (Objects.nonNull(idempotencyKey) && idempotencyKey.length() > OrderIdempotencyKey.MAX_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        final Order response = retryExecutor.execute(() -> orderService.create(request, idempotencyKey));
         return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
             .body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.createAll(requests)));
+    }
+
     @PutMapping("/{orderId}/accept")
     public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.accept(orderId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.accept(orderId)));
     }
 
     @PutMapping("/{orderId}/serve")
     public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.serve(orderId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.serve(orderId)));
     }
 
     @PutMapping("/{orderId}/start-delivery")
     public ResponseEntity<Order> startDelivery(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.startDelivery(orderId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.startDelivery(orderId)));
     }
 
     @PutMapping("/{orderId}/complete-delivery")
     public ResponseEntity<Order> completeDelivery(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.completeDelivery(orderId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.completeDelivery(orderId)));
     }
 
     @PutMapping("/{orderId}/complete")
     public ResponseEntity<Order> complete(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.complete(orderId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.complete(orderId)));
+    }
+
+    @PutMapping("/transitions")
+    public ResponseEntity<List<OrderTransitionResult>> transitionAll(@RequestBody final OrderTransitionRequest request) {
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderService.transitionAll(request)));
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<Order> findById(
+        @PathVariable final UUID orderId,
+        @RequestParam(defaultValue = "false") final boolean includeArchived
+    ) {
+        return ResponseEntity.ok(orderService.findById(orderId, includeArchived));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return orderEventHub.subscribe();
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        orderExportService.export(response.getOutputStream());
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<Order>> findAll(final OrderSearchCondition condition) {
+        return ResponseEntity.ok(orderService.findAll(condition));
     }
 }
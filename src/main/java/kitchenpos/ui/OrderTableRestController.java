@@ -1,5 +1,6 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.OptimisticLockRetryExecutor;
 import kitchenpos.application.OrderTableService;
 import kitchenpos.domain.OrderTable;
 import org.springframework.http.ResponseEntity;
@@ -13,9 +14,14 @@ import java.util.UUID;
 @RestController
 public class OrderTableRestController {
     private final OrderTableService orderTableService;
+    private final OptimisticLockRetryExecutor retryExecutor;
 
-    public OrderTableRestController(final OrderTableService orderTableService) {
+    public OrderTableRestController(
+        final OrderTableService orderTableService,
+        final OptimisticLockRetryExecutor retryExecutor
+    ) {
         this.orderTableService = orderTableService;
+        this.retryExecutor = retryExecutor;
     }
 
     @PostMapping
@@ -27,12 +33,12 @@ public class OrderTableRestController {
 
     @PutMapping("/{orderTableId}/sit")
     public ResponseEntity<OrderTable> sit(@PathVariable final UUID orderTableId) {
-        return ResponseEntity.ok(orderTableService.sit(orderTableId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderTableService.sit(orderTableId)));
     }
 
     @PutMapping("/{orderTableId}/clear")
     public ResponseEntity<OrderTable> clear(@PathVariable final UUID orderTableId) {
-        return ResponseEntity.ok(orderTableService.clear(orderTableId));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderTableService.clear(orderTableId)));
     }
 
     @PutMapping("/{orderTableId}/number-of-guests")
@@ -40,7 +46,7 @@ public class OrderTableRestController {
         @PathVariable final UUID orderTableId,
         @RequestBody final OrderTable request
     ) {
-        return ResponseEntity.ok(orderTableService.changeNumberOfGuests(orderTableId, request));
+        return ResponseEntity.ok(retryExecutor.execute(() -> orderTableService.changeNumberOfGuests(orderTableId, request)));
     }
 
     @GetMapping
@@ -0,0 +1,52 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.DailySalesRollupRebuilder;
+import kitchenpos.application.SalesReportService;
+import kitchenpos.application.TopSellingMenu;
+import kitchenpos.application.TopSellingMenuTracker;
+import kitchenpos.domain.DailySalesRollup;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequestMapping("/api/reports")
+@RestController
+public class SalesReportRestController {
+    private final SalesReportService salesReportService;
+    private final TopSellingMenuTracker topSellingMenuTracker;
+    private final DailySalesRollupRebuilder dailySalesRollupRebuilder;
+
+    public SalesReportRestController(
+        final SalesReportService salesReportService,
+        final TopSellingMenuTracker topSellingMenuTracker,
+        final DailySalesRollupRebuilder dailySalesRollupRebuilder
+    ) {
+        this.salesReportService = salesReportService;
+        this.topSellingMenuTracker = topSellingMenuTracker;
+        this.dailySalesRollupRebuilder = dailySalesRollupRebuilder;
+    }
+
+    @GetMapping("/sales")
+    public ResponseEntity<List<DailySalesRollup>> findDailySales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        return ResponseEntity.ok(salesReportService.findDailySales(from, to));
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<Integer> rebuildDailySales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        return ResponseEntity.ok(dailySalesRollupRebuilder.rebuild(from, to));
+    }
+
+    @GetMapping("/top-menus")
+    public ResponseEntity<List<TopSellingMenu>> findTopMenus(@RequestParam(defaultValue = "10") final int size) {
+        return ResponseEntity.ok(topSellingMenuTracker.findTop(size));
+    }
+}
@@ -0,0 +1,34 @@
+create table orders_archive
+(
+    id               binary(16)     not null,
+    delivery_address varchar(255),
+    order_date_time  datetime(6)    not null,
+    total_price      decimal(19, 2) not null,
+    status           varchar(255)   not null,
+    type             varchar(255)   not null,
+    order_table_id   binary(16),
+    archived_at      datetime(6)    not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table order_line_item_archive
+(
+    seq      bigint         not null,
+    price    decimal(19, 2) not null,
+    quantity bigint         not null,
+    menu_id  binary(16)     not null,
+    order_id binary(16)     not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_orders_archive_order_date_time_id
+    on orders_archive (order_date_time, id);
+
+create index ix_orders_archive_type_order_date_time_id
+    on orders_archive (type, order_date_time, id);
+
+create index ix_orders_archive_order_table_id_order_date_time_id
+    on orders_archive (order_table_id, order_date_time, id);
+
+create index ix_order_line_item_archive_order_id
+    on order_line_item_archive (order_id);
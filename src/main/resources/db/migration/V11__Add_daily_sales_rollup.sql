@@ -0,0 +1,10 @@
+create table daily_sales_rollup
+(
+    sales_date  date           not null,
+    menu_id     binary(16)     not null,
+    order_type  varchar(255)   not null,
+    order_count bigint         not null,
+    quantity    bigint         not null,
+    amount      decimal(19, 2) not null,
+    primary key (sales_date, menu_id, order_type)
+) engine = InnoDB;
@@ -0,0 +1,17 @@
+alter table orders
+    add column status_changed_at datetime(6);
+
+update orders
+set status_changed_at = order_date_time;
+
+alter table orders
+    modify column status_changed_at datetime(6) not null;
+
+alter table orders_archive
+    add column status_changed_at datetime(6);
+
+update orders_archive
+set status_changed_at = order_date_time;
+
+alter table orders_archive
+    modify column status_changed_at datetime(6) not null;
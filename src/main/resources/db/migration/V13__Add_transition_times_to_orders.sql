@@ -0,0 +1,25 @@
+alter table orders
+    add column accepted_at         datetime(6),
+    add column served_at           datetime(6),
+    add column delivery_started_at datetime(6),
+    add column delivered_at        datetime(6),
+    add column completed_at        datetime(6);
+
+alter table orders_archive
+    add column accepted_at         datetime(6),
+    add column served_at           datetime(6),
+    add column delivery_started_at datetime(6),
+    add column delivered_at        datetime(6),
+    add column completed_at        datetime(6);
+
+create index ix_orders_accepted_at_order_date_time
+    on orders (accepted_at, order_date_time);
+
+create index ix_orders_served_at_accepted_at
+    on orders (served_at, accepted_at);
+
+create index ix_orders_delivered_at_delivery_started_at
+    on orders (delivered_at, delivery_started_at);
+
+create index ix_orders_completed_at_order_date_time
+    on orders (completed_at, order_date_time);
@@ -0,0 +1,5 @@
+alter table delivery_request
+    add column claim_token binary(16);
+
+create index ix_delivery_request_claim_token
+    on delivery_request (claim_token);
@@ -0,0 +1,2 @@
+create index ix_order_idempotency_key_created_at
+    on order_idempotency_key (created_at);
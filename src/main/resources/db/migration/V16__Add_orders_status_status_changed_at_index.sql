@@ -0,0 +1,2 @@
+create index ix_orders_status_status_changed_at_id
+    on orders (status, status_changed_at, id);
@@ -0,0 +1,15 @@
+create table delivery_request
+(
+    id               binary(16)     not null,
+    order_id         binary(16)     not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    status           varchar(255)   not null,
+    attempts         integer        not null,
+    next_attempt_at  datetime(6)    not null,
+    created_at       datetime(6)    not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index ix_delivery_request_status_next_attempt_at
+    on delivery_request (status, next_attempt_at);
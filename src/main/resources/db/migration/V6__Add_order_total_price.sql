@@ -0,0 +1,20 @@
+alter table orders
+    add column total_price decimal(19, 2);
+
+alter table order_line_item
+    add column price decimal(19, 2);
+
+update order_line_item oli
+    join menu m on oli.menu_id = m.id
+set oli.price = m.price;
+
+update orders o
+set o.total_price = (select coalesce(sum(oli.price * oli.quantity), 0)
+                     from order_line_item oli
+                     where oli.order_id = o.id);
+
+alter table orders
+    modify total_price decimal(19, 2) not null;
+
+alter table order_line_item
+    modify price decimal(19, 2) not null;
@@ -0,0 +1,5 @@
+alter table orders
+    add column version bigint not null default 0;
+
+alter table order_table
+    add column version bigint not null default 0;
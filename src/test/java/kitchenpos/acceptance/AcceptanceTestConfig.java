@@ -1,5 +1,9 @@
 package kitchenpos.acceptance;
 
+import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.ProductRepository;
+import kitchenpos.fixture.FixtureSaver;
 import kitchenpos.fixture.fake.FakeProfanityClient;
 import kitchenpos.domain.ProfanityClient;
 import kitchenpos.utils.DatabaseCleanUp;
@@ -28,4 +32,13 @@ public class AcceptanceTestConfig {
     public DatabaseCleanUp databaseCleanUp() {
         return new DatabaseCleanUp(entityManager);
     }
+
+    @Bean
+    public FixtureSaver fixtureSaver(
+        ProductRepository productRepository,
+        MenuGroupRepository menuGroupRepository,
+        MenuRepository menuRepository
+    ) {
+        return new FixtureSaver(productRepository, menuGroupRepository, menuRepository);
+    }
 }
@@ -4,6 +4,7 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 import static kitchenpos.acceptance.MenuGroupSteps.메뉴그룹이_등록됨;
 import static kitchenpos.acceptance.MenuSteps.*;
+import static kitchenpos.acceptance.ProductSteps.제품_가격_수정_요청;
 import static kitchenpos.acceptance.ProductSteps.제품이_등록됨;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -97,6 +99,22 @@ public class MenuAcceptanceTest extends AcceptanceTest {
         메뉴가_숨겨짐(메뉴_목록, 후라이드_치킨_세트);
     }
 
+    @DisplayName("제품의 가격이 내려가 메뉴의 가격이 구성품목 가격의 총합보다 비싸지면 메뉴를 숨긴다.")
+    @Test
+    void hideMenusOnProductPriceChange() {
+        // given
+        UUID 후라이드치킨_세트 = 메뉴가_등록됨("후라이드 치킨 세트", 19_000L, 세트메뉴, true, 후라이드치킨_콜라);
+        UUID 양념치킨_세트 = 메뉴가_등록됨("양념 치킨 세트", 20_000L, 세트메뉴, true, 양념치킨_콜라);
+
+        // when
+        제품의_가격_수정_요청함(콜라, 1_500L);
+
+        // then
+        var 메뉴_목록 = 메뉴_목록_조회_요청함();
+        메뉴가_숨겨짐(메뉴_목록, 후라이드치킨_세트);
+        메뉴가_표시됨(메뉴_목록, 양념치킨_세트);
+    }
+
     @DisplayName("메뉴목록을 조회한다.")
     @Test
     void showMenus() {
@@ -133,6 +151,13 @@ public class MenuAcceptanceTest extends AcceptanceTest {
         return 메뉴_가격_수정_요청(given(), id, menu);
     }
 
+    private ExtractableResponse<Response> 제품의_가격_수정_요청함(final UUID id, final Long price) {
+        final Product product = new Product();
+        product.setPrice(BigDecimal.valueOf(price));
+
+        return 제품_가격_수정_요청(given(), id, product);
+    }
+
     private ExtractableResponse<Response> 메뉴_표시를_요청함(final UUID id) {
         return 메뉴_표시를_요청(given(), id);
     }
@@ -1,19 +1,24 @@
 package kitchenpos.acceptance;
 
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderIdempotencyKey;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static kitchenpos.acceptance.MenuGroupSteps.메뉴그룹이_등록됨;
 import static kitchenpos.acceptance.MenuSteps.메뉴가_등록됨;
@@ -147,7 +152,87 @@ public class OrderAcceptanceTest extends AcceptanceTest {
         주문이_조회됨(주문목록, 배달_주문, 포장_주문);
     }
 
+    @DisplayName("여러 주문을 한 번에 등록한다.")
+    @Test
+    void createAll() {
+        // given
+        final var 주문내역_목록 = 주문내역_목록을_구성함(주문내역을_구성함(후라이드_치킨_세트, 17_000L, 2));
+        final var 잘못된_주문내역_목록 = 주문내역_목록을_구성함(주문내역을_구성함(후라이드_치킨_세트, 10_000L, 2));
+        final List<Order> 주문_목록 = List.of(
+                주문을_구성함(매장식사, 일번_테이블, null, 주문내역_목록),
+                주문을_구성함(포장, null, null, 잘못된_주문내역_목록),
+                주문을_구성함(배달, null, "서울특별시 송파구", 주문내역_목록)
+        );
+
+        // when
+        final var 등록결과 = 주문_일괄_등록_요청(given(), 주문_목록);
+
+        // then
+        assertThat(등록결과.jsonPath().getList("success", Boolean.class)).containsExactly(true, false, true);
+        주문이_조회됨(주문_목록_조회를_요청함(), 등록결과.jsonPath().getUUID("[0].order.id"), 등록결과.jsonPath().getUUID("[2].order.id"));
+    }
+
+    @DisplayName("여러 주문을 한 번에 서빙한다.")
+    @Test
+    void serveAll() {
+        // given
+        final var 주문내역_목록 = 주문내역_목록을_구성함(주문내역을_구성함(후라이드_치킨_세트, 17_000L, 2));
+        final UUID 승인된_주문 = 포장_식사_주문이_등록됨(주문내역_목록);
+        주문_승인을_요청함(승인된_주문);
+        final UUID 대기중인_주문 = 포장_식사_주문이_등록됨(주문내역_목록);
+
+        // when
+        final var 변경결과 = 주문_일괄_상태변경_요청(given(), "SERVE", List.of(승인된_주문, 대기중인_주문));
+
+        // then
+        assertThat(변경결과.jsonPath().getList("success", Boolean.class)).containsExactly(true, false);
+        final var 주문목록 = 주문_목록_조회를_요청함();
+        주문의_상태가_변경됨(주문목록, 승인된_주문, 서빙완료);
+        주문의_상태가_변경됨(주문목록, 대기중인_주문, 대기);
+    }
+
+    @DisplayName("주문을 한 줄에 하나씩 내보낸다.")
+    @Test
+    void export() {
+        // given
+        final var 주문내역_목록 = 주문내역_목록을_구성함(주문내역을_구성함(후라이드_치킨_세트, 17_000L, 2));
+        final UUID 배달_주문 = 배달_주문이_등록됨("서울특별시 송파구", 주문내역_목록);
+        final UUID 포장_주문 = 포장_식사_주문이_등록됨(주문내역_목록);
+
+        // when
+        final var 내보낸_주문 = 주문_내보내기_요청(given());
+
+        // then
+        final List<UUID> 주문번호_목록 = 내보낸_주문.body().asString().lines()
+                .map(line -> JsonPath.from(line).getUUID("id"))
+                .collect(Collectors.toList());
+        assertThat(주문번호_목록).containsExactlyInAnyOrder(배달_주문, 포장_주문);
+    }
+
+    @DisplayName("Idempotency-Key 가 너무 길면 주문을 등록하지 않고 잘못된 요청으로 응답한다.")
+    @Test
+    void too_long_idempotency_key() {
+        // given
+        final var 주문내역_목록 = 주문내역_목록을_구성함(주문내역을_구성함(후라이드_치킨_세트, 17_000L, 1));
+        final Order 주문 = 주문을_구성함(포장, null, null, 주문내역_목록);
+
+        // when
+        final int 응답코드 = given().header("Idempotency-Key", "k".repeat(OrderIdempotencyKey.MAX_LENGTH + 1))
+                .body(주문)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/api/orders")
+                .then().log().all()
+                .extract().statusCode();
+
+        // then
+        assertThat(응답코드).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     private ExtractableResponse<Response> 주문_등록을_요청함(final String type, final UUID orderTableId, final String deliveryAddress, final List<OrderLineItem> orderLineItems) {
+        return 주문_등록_요청(given(), 주문을_구성함(type, orderTableId, deliveryAddress, orderLineItems));
+    }
+
+    private Order 주문을_구성함(final String type, final UUID orderTableId, final String deliveryAddress, final List<OrderLineItem> orderLineItems) {
         final Order order = new Order();
         order.setType(orderType(type));
         if (Objects.nonNull(orderTableId)) {
@@ -157,8 +242,7 @@ public class OrderAcceptanceTest extends AcceptanceTest {
             order.setDeliveryAddress(deliveryAddress);
         }
         order.setOrderLineItems(orderLineItems);
-
-        return 주문_등록_요청(given(), order);
+        return order;
     }
 
     private OrderType orderType(String type) {
@@ -7,6 +7,8 @@ import kitchenpos.domain.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class OrderSteps {
@@ -31,6 +33,15 @@ public class OrderSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 주문_일괄_등록_요청(final RequestSpecification given, final List<Order> orders) {
+        return given.body(orders)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/api/orders/batch")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 주문_목록_조회_요청(final RequestSpecification given) {
         return given
                 .when().get("/api/orders")
@@ -39,6 +50,15 @@ public class OrderSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 주문_내보내기_요청(final RequestSpecification given) {
+        return given
+                .when().get("/api/orders/export")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 주문_승인_요청(final RequestSpecification given, final UUID id) {
         return given
                 .when().put("/api/orders/{id}/accept", id)
@@ -71,6 +91,15 @@ public class OrderSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 주문_일괄_상태변경_요청(final RequestSpecification given, final String action, final List<UUID> ids) {
+        return given.body(Map.of("orderIds", ids, "action", action))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().put("/api/orders/transitions")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 주문_완료_요청(final RequestSpecification given, final UUID id) {
         return given
                 .when().put("/api/orders/{id}/complete", id)
@@ -27,6 +27,18 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         제품이_조회됨(제품_목록, "후라이드");
     }
 
+    @DisplayName("CSV 파일로 제품을 한 번에 등록한다.")
+    @Test
+    void importProducts() {
+        // when
+        var 일괄_등록_결과 = 제품_일괄_등록_요청함("name,price\n후라이드,15000\n양념,17000\n욕설,16000\n");
+
+        // then
+        assertThat(일괄_등록_결과.jsonPath().getLong("importedCount")).isEqualTo(2);
+        var 제품_목록 = 제품_목록_조회_요청함();
+        제품이_조회됨(제품_목록, "후라이드", "양념");
+    }
+
     @DisplayName("제품의 가격을 변경한다.")
     @Test
     void changePrice() {
@@ -63,6 +75,10 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         return 제품_등록_요청(given(), product);
     }
 
+    private ExtractableResponse<Response> 제품_일괄_등록_요청함(final String csv) {
+        return 제품_일괄_등록_요청(given(), csv);
+    }
+
     private ExtractableResponse<Response> 제품_목록_조회_요청함() {
         return 제품_목록_조회_요청(given());
     }
@@ -29,6 +29,15 @@ public class ProductSteps {
         return 제품_등록_요청(given, product).jsonPath().getUUID("id");
     }
 
+    public static ExtractableResponse<Response> 제품_일괄_등록_요청(final RequestSpecification given, final String csv) {
+        return given.body(csv)
+                .contentType("text/csv; charset=UTF-8")
+                .when().post("/api/products/import")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 제품_목록_조회_요청(final RequestSpecification given) {
         return given
                 .when().get("/api/products")
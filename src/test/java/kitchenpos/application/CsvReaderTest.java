@@ -0,0 +1,64 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CsvReaderTest {
+
+    @DisplayName("따옴표로 감싼 필드의 쉼표, 줄바꿈, 이스케이프된 따옴표를 읽는다.")
+    @Test
+    void quoted() {
+        // given
+        final CsvReader csvReader = new CsvReader(new StringReader("\"양념, 치킨\",\"순살\n반반\",\"\"\"매운\"\" 맛\"\r\n"), 100);
+
+        // when & then
+        assertAll(
+            () -> assertThat(csvReader.read()).containsExactly("양념, 치킨", "순살\n반반", "\"매운\" 맛"),
+            () -> assertThat(csvReader.read()).isNull()
+        );
+    }
+
+    @DisplayName("BOM을 건너뛰고, 마지막 줄에 줄바꿈이 없어도 읽는다.")
+    @Test
+    void bom() {
+        // given
+        final CsvReader csvReader = new CsvReader(new StringReader("\uFEFFname,price\n후라이드,15000"), 100);
+
+        // when & then
+        assertAll(
+            () -> assertThat(csvReader.read()).containsExactly("name", "price"),
+            () -> assertThat(csvReader.read()).containsExactly("후라이드", "15000"),
+            () -> assertThat(csvReader.read()).isNull()
+        );
+    }
+
+    @DisplayName("닫히지 않은 따옴표나 최대 길이를 넘는 행은 읽을 수 없다.")
+    @Test
+    void invalid() {
+        assertAll(
+            () -> assertThatThrownBy(() -> new CsvReader(new StringReader("\"후라이드"), 100).read())
+                .isInstanceOf(IllegalArgumentException.class),
+            () -> assertThatThrownBy(() -> new CsvReader(new StringReader("후라이드,15000"), 5).read())
+                .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @DisplayName("최대 길이를 넘는 행을 건너뛰고 다음 행부터 읽는다.")
+    @Test
+    void skip_too_long() {
+        // given
+        final CsvReader csvReader = new CsvReader(new StringReader("\"후라이드\n치킨\",15000\r\n양념,17000\n"), 10);
+
+        // when
+        assertThatThrownBy(csvReader::read).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(csvReader.read()).containsExactly("양념", "17000");
+    }
+}
@@ -0,0 +1,121 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupId;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderLineItemFixture;
+import kitchenpos.fixture.fake.InMemoryDailySalesRollupRepository;
+import kitchenpos.fixture.fake.InMemoryOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DailySalesRollupRebuilderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 9, 1);
+
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryDailySalesRollupRepository dailySalesRollupRepository;
+    private DailySalesRollupRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        dailySalesRollupRepository = new InMemoryDailySalesRollupRepository(orderRepository);
+        rebuilder = new DailySalesRollupRebuilder(dailySalesRollupRepository, Duration.ofDays(366));
+    }
+
+    @DisplayName("하루치 집계를 그날 완료된 주문으로부터 다시 계산해 덮어쓴다.")
+    @Test
+    void rebuild() {
+        // given
+        final Menu menu = MenuFixture.createDefault();
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY, menu, 2L));
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY, menu, 1L));
+        orderRepository.save(order(OrderStatus.SERVED, TODAY, menu, 1L));
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY.minusDays(1), menu, 1L));
+        final DailySalesRollupId id = new DailySalesRollupId(TODAY, menu.getId(), OrderType.TAKEOUT);
+        final DailySalesRollupId yesterdayId = new DailySalesRollupId(TODAY.minusDays(1), menu.getId(), OrderType.TAKEOUT);
+        dailySalesRollupRepository.addAll(List.of(
+            new DailySalesRollup(id, 7, 7, BigDecimal.ONE),
+            new DailySalesRollup(yesterdayId, 5, 5, BigDecimal.ONE)
+        ));
+
+        // when
+        final int rebuilt = rebuilder.rebuild(TODAY);
+
+        // then
+        final DailySalesRollup today = dailySalesRollupRepository.findAllBySalesDateBetween(TODAY, TODAY).get(0);
+        assertAll(() -> {
+            assertThat(rebuilt).isEqualTo(1);
+            assertThat(today.getOrderCount()).isEqualTo(2);
+            assertThat(today.getQuantity()).isEqualTo(3);
+            assertThat(today.getAmount()).isEqualByComparingTo(menu.getPrice().multiply(BigDecimal.valueOf(3)));
+            assertThat(dailySalesRollupRepository.findAllBySalesDateBetween(TODAY.minusDays(1), TODAY.minusDays(1)))
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getOrderCount()).isEqualTo(5));
+        });
+    }
+
+    @DisplayName("기간을 지정하면 그 안의 날짜마다 집계를 다시 계산해 채운다.")
+    @Test
+    void rebuild_range() {
+        // given
+        final Menu menu = MenuFixture.createDefault();
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY.minusDays(2), menu, 1L));
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY.minusDays(1), menu, 2L));
+        orderRepository.save(order(OrderStatus.COMPLETED, TODAY, menu, 3L));
+
+        // when
+        final int rebuilt = rebuilder.rebuild(TODAY.minusDays(2), TODAY.minusDays(1));
+
+        // then
+        assertAll(() -> {
+            assertThat(rebuilt).isEqualTo(2);
+            assertThat(dailySalesRollupRepository.findAllBySalesDateBetween(TODAY.minusDays(2), TODAY))
+                .extracting(DailySalesRollup::getQuantity)
+                .containsExactly(1L, 2L);
+        });
+    }
+
+    @DisplayName("기간이 거꾸로 되었거나 최대 기간보다 길면 다시 계산할 수 없다.")
+    @Test
+    void rebuild_invalid_range() {
+        // given
+        final LocalDate from = TODAY.minusDays(366);
+
+        // then
+        assertAll(() -> {
+            assertThatThrownBy(() -> rebuilder.rebuild(TODAY, TODAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> rebuilder.rebuild(from, TODAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    private static Order order(final OrderStatus status, final LocalDate orderDate, final Menu menu, final long quantity) {
+        final Order order = OrderFixture.create(OrderType.TAKEOUT, status);
+        final OrderLineItem orderLineItem = OrderLineItemFixture.createDefault();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(quantity);
+        order.setOrderLineItems(List.of(orderLineItem));
+        order.setOrderDateTime(orderDate.atTime(12, 0));
+        return order;
+    }
+}
@@ -0,0 +1,318 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTransitions;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.fake.InMemoryDeliveryRequestRepository;
+import kitchenpos.fixture.fake.InMemoryMenuRepository;
+import kitchenpos.fixture.fake.InMemoryOrderArchiveRepository;
+import kitchenpos.fixture.fake.InMemoryOrderIdempotencyKeyRepository;
+import kitchenpos.fixture.fake.InMemoryOrderRepository;
+import kitchenpos.fixture.fake.InMemoryOrderTableRepository;
+import kitchenpos.fixture.fake.StubRiderAgencyClient;
+import kitchenpos.infra.UuidV7Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DeliveryRequestDispatcherTest {
+
+    private static final Duration AGENCY_LATENCY = Duration.ofMillis(200);
+
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryDeliveryRequestRepository deliveryRequestRepository;
+    private StubRiderAgencyClient riderAgencyClient;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        deliveryRequestRepository = new InMemoryDeliveryRequestRepository();
+        riderAgencyClient = new StubRiderAgencyClient(AGENCY_LATENCY);
+        orderService = new OrderService(
+                orderRepository,
+                new InMemoryOrderArchiveRepository(orderRepository),
+                new InMemoryMenuRepository(),
+                new InMemoryOrderTableRepository(),
+                deliveryRequestRepository,
+                OrderTransitions.standard(),
+                new OrderIdempotencyKeys(new InMemoryOrderIdempotencyKeyRepository(), 100, Duration.ofMinutes(10)),
+                event -> {
+                },
+                new UuidV7Generator()
+        );
+    }
+
+    @DisplayName("배달 주문 승인은 배달 대행사의 응답 시간을 기다리지 않는다.")
+    @Test
+    void accept_does_not_wait_for_agency() {
+        // given
+        final Order order = orderRepository.save(OrderFixture.create(OrderType.DELIVERY, OrderStatus.WAITING));
+
+        // then
+        assertTimeout(AGENCY_LATENCY.dividedBy(2), () -> orderService.accept(order.getId()));
+        assertThat(riderAgencyClient.getRequestedOrderIds()).isEmpty();
+    }
+
+    @DisplayName("대기중인 배달 요청을 배달 대행사에 전달한다.")
+    @Test
+    void dispatch() {
+        // given
+        final Order order = acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(100, 3);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertAll(() -> {
+            assertThat(riderAgencyClient.getRequestedOrderIds()).containsExactly(order.getId());
+            assertThat(deliveryRequest().getStatus()).isEqualTo(DeliveryRequestStatus.SENT);
+        });
+    }
+
+    @DisplayName("한 번에 배치 크기만큼만 전달한다.")
+    @Test
+    void dispatch_batch_size() {
+        // given
+        acceptedDeliveryOrder();
+        acceptedDeliveryOrder();
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(2, 3);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(riderAgencyClient.getRequestedOrderIds()).hasSize(2);
+    }
+
+    @DisplayName("모인 배달 요청을 한 번의 호출로 전달한다.")
+    @Test
+    void dispatch_in_one_call() {
+        // given
+        acceptedDeliveryOrder();
+        acceptedDeliveryOrder();
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(3, Duration.ofMinutes(1), 3);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertAll(() -> {
+            assertThat(riderAgencyClient.getRequestedOrderIds()).hasSize(3);
+            assertThat(riderAgencyClient.getCalls()).isEqualTo(1);
+            assertThat(riderAgencyClient.getSavedCalls()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("여러 인스턴스가 동시에 전달해도 같은 배달 요청을 한 번만 전달한다.")
+    @Test
+    void dispatch_concurrently() throws InterruptedException {
+        // given
+        for (int i = 0; i < 10; i++) {
+            acceptedDeliveryOrder();
+        }
+        final int instances = 4;
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(instances);
+
+        // when
+        for (int i = 0; i < instances; i++) {
+            final DeliveryRequestDispatcher dispatcher = dispatcher(100, 3);
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    dispatcher.dispatch();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        ready.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertAll(() -> {
+            assertThat(riderAgencyClient.getRequestedOrderIds()).hasSize(10).doesNotHaveDuplicates();
+            assertThat(deliveryRequestRepository.findAll())
+                    .allSatisfy(deliveryRequest -> {
+                        assertThat(deliveryRequest.getStatus()).isEqualTo(DeliveryRequestStatus.SENT);
+                        assertThat(deliveryRequest.getAttempts()).isEqualTo(1);
+                    });
+        });
+    }
+
+    @DisplayName("다른 인스턴스가 점유한 배달 요청은 점유 기간 동안 전달하지 않는다.")
+    @Test
+    void skip_claimed() {
+        // given
+        acceptedDeliveryOrder();
+        final LocalDateTime now = LocalDateTime.now();
+        deliveryRequestRepository.claimAll(
+                List.of(deliveryRequest().getId()), now, UUID.randomUUID(), now.plusMinutes(1)
+        );
+        final DeliveryRequestDispatcher dispatcher = dispatcher(100, 3);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertAll(() -> {
+            assertThat(riderAgencyClient.getCalls()).isZero();
+            assertThat(deliveryRequest().getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+        });
+    }
+
+    @DisplayName("배치 크기만큼 모이지 않았고 가장 오래된 요청도 최대 대기 시간이 지나지 않았으면 전달하지 않는다.")
+    @Test
+    void hold_until_max_wait() {
+        // given
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(3, Duration.ofMinutes(1), 3);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertAll(() -> {
+            assertThat(riderAgencyClient.getCalls()).isZero();
+            assertThat(deliveryRequest().getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+        });
+    }
+
+    @DisplayName("커밋된 배달 요청이 배치 크기만큼 모이면 폴링을 기다리지 않고 바로 전달한다.")
+    @Test
+    void wake_when_batch_full() {
+        // given
+        acceptedDeliveryOrder();
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(2, Duration.ofMinutes(1), 3);
+
+        // when
+        deliveryRequestRepository.findAll()
+                .forEach(deliveryRequest -> dispatcher.wake(DeliveryRequestedEvent.of(deliveryRequest)));
+
+        // then
+        try {
+            awaitRequested(2);
+            assertThat(riderAgencyClient.getCalls()).isEqualTo(1);
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @DisplayName("커밋된 배달 요청이 배치 크기만큼 모이지 않으면 최대 대기 시간 뒤에 전달한다.")
+    @Test
+    void wake_after_max_wait() {
+        // given
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(100, Duration.ofMillis(100), 3);
+
+        // when
+        dispatcher.wake(DeliveryRequestedEvent.of(deliveryRequest()));
+
+        // then
+        try {
+            assertThat(riderAgencyClient.getCalls()).isZero();
+            awaitRequested(1);
+            assertThat(deliveryRequest().getStatus()).isEqualTo(DeliveryRequestStatus.SENT);
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @DisplayName("전달에 실패하면 대기 시간 이후에 다시 시도한다.")
+    @Test
+    void retry_with_backoff() {
+        // given
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(100, 3);
+        riderAgencyClient.setFailing(true);
+
+        // when
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // then
+        final DeliveryRequest deliveryRequest = deliveryRequest();
+        assertAll(() -> {
+            assertThat(deliveryRequest.getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+            assertThat(deliveryRequest.getAttempts()).isEqualTo(1);
+            assertThat(deliveryRequest.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        });
+    }
+
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 시도하지 않는다.")
+    @Test
+    void fail_after_max_attempts() {
+        // given
+        acceptedDeliveryOrder();
+        final DeliveryRequestDispatcher dispatcher = dispatcher(100, 1);
+        riderAgencyClient.setFailing(true);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(deliveryRequest().getStatus()).isEqualTo(DeliveryRequestStatus.FAILED);
+    }
+
+    private Order acceptedDeliveryOrder() {
+        final Order order = orderRepository.save(OrderFixture.create(OrderType.DELIVERY, OrderStatus.WAITING));
+        return orderService.accept(order.getId());
+    }
+
+    private void awaitRequested(final int count) {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (deliveryRequestRepository.findAll().stream()
+                    .anyMatch(deliveryRequest -> deliveryRequest.getStatus() == DeliveryRequestStatus.PENDING)
+                    || riderAgencyClient.getRequestedOrderIds().size() < count) {
+                Thread.sleep(10);
+            }
+        });
+    }
+
+    private DeliveryRequest deliveryRequest() {
+        final List<DeliveryRequest> deliveryRequests = deliveryRequestRepository.findAll();
+        assertThat(deliveryRequests).hasSize(1);
+        return deliveryRequests.get(0);
+    }
+
+    private DeliveryRequestDispatcher dispatcher(final int batchSize, final int maxAttempts) {
+        return dispatcher(batchSize, Duration.ZERO, maxAttempts);
+    }
+
+    private DeliveryRequestDispatcher dispatcher(final int batchSize, final Duration maxWait, final int maxAttempts) {
+        return new DeliveryRequestDispatcher(
+                deliveryRequestRepository,
+                riderAgencyClient,
+                batchSize,
+                maxWait,
+                maxAttempts,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(5),
+                Duration.ofMinutes(1)
+        );
+    }
+}
@@ -4,6 +4,7 @@ import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
 import kitchenpos.fixture.MenuGroupFixture;
 import kitchenpos.fixture.fake.InMemoryMenuGroupRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,7 +24,7 @@ public class MenuGroupServiceWithFakeTest {
     @BeforeEach
     void setUp() {
         menuGroupRepository = new InMemoryMenuGroupRepository();
-        menuGroupService = new MenuGroupService(menuGroupRepository);
+        menuGroupService = new MenuGroupService(menuGroupRepository, new UuidV7Generator());
     }
 
     @DisplayName("메뉴그룹 등록")
@@ -16,6 +16,7 @@ import kitchenpos.fixture.fake.FakeProfanityClient;
 import kitchenpos.fixture.fake.InMemoryMenuGroupRepository;
 import kitchenpos.fixture.fake.InMemoryMenuRepository;
 import kitchenpos.fixture.fake.InMemoryProductRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,7 +50,7 @@ public class MenuServiceWithFakeTest {
         menuGroupRepository = new InMemoryMenuGroupRepository();
         productRepository = new InMemoryProductRepository();
         profanityClient = new FakeProfanityClient();
-        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, profanityClient);
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, profanityClient, new UuidV7Generator());
 
         chicken = ProductFixture.createDefault();
         productRepository.save(chicken);
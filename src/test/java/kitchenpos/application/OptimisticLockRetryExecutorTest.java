@@ -0,0 +1,68 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OptimisticLockRetryExecutorTest {
+
+    private final OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(3, Duration.ZERO);
+
+    @DisplayName("버전 충돌이 나면 다시 시도한다.")
+    @Test
+    void retry_on_conflict() {
+        // given
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        final String actual = retryExecutor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+            }
+            return "ok";
+        });
+
+        // then
+        assertAll(() -> {
+            assertThat(actual).isEqualTo("ok");
+            assertThat(attempts.get()).isEqualTo(3);
+        });
+    }
+
+    @DisplayName("최대 시도 횟수만큼 충돌하면 예외를 던진다.")
+    @Test
+    void throw_after_max_attempts() {
+        // given
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @DisplayName("버전 충돌이 아닌 예외는 다시 시도하지 않는다.")
+    @Test
+    void do_not_retry_other_exceptions() {
+        // given
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,252 @@
+package kitchenpos.application;
+
+import kitchenpos.acceptance.AcceptanceTestConfig;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.FixtureSaver;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderLineItemFixture;
+import kitchenpos.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(AcceptanceTestConfig.class)
+@Sql("/db/orders_archive.sql")
+class OrderArchiveIntegrationTest {
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private FixtureSaver fixtureSaver;
+
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        menu = fixtureSaver.saveMenu();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.execute();
+    }
+
+    @DisplayName("기준 시각 이전에 완료된 주문만 주문 항목과 함께 보관 테이블로 옮기고 원본에서 지운다.")
+    @Test
+    void archiveCompletedBefore() {
+        // given
+        final Order archivable = completedOrderAt(CUTOFF.minusDays(2));
+        final Order recent = completedOrderAt(CUTOFF.plusDays(1));
+        final Order open = orderAt(CUTOFF.minusDays(3));
+
+        // when
+        final int archived = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 10);
+
+        // then
+        final Order actual = orderArchiveRepository.findById(archivable.getId()).get();
+        assertAll(() -> {
+            assertThat(archived).isEqualTo(1);
+            assertThat(orderRepository.findById(archivable.getId())).isEmpty();
+            assertThat(orderRepository.findById(recent.getId())).isPresent();
+            assertThat(orderRepository.findById(open.getId())).isPresent();
+            assertThat(countRows("order_line_item", archivable.getId())).isZero();
+            assertThat(actual.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            assertThat(actual.getTotalPrice()).isEqualByComparingTo(archivable.getTotalPrice());
+            assertThat(actual.getCompletedAt()).isNotNull();
+            assertThat(actual.getOrderLineItems()).hasSize(1);
+            assertThat(actual.getOrderLineItems().get(0).getMenuId()).isEqualTo(menu.getId());
+        });
+    }
+
+    @DisplayName("오래전에 주문했더라도 기준 시각 이후에 완료된 주문은 옮기지 않는다.")
+    @Test
+    void archiveCompletedBefore_completion_time() {
+        // given
+        final Order recentlyCompleted = completedOrderAt(CUTOFF.minusDays(30), CUTOFF.plusMinutes(1));
+
+        // when
+        final int archived = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 10);
+
+        // then
+        assertAll(() -> {
+            assertThat(archived).isZero();
+            assertThat(orderRepository.findById(recentlyCompleted.getId())).isPresent();
+        });
+    }
+
+    @DisplayName("여러 인스턴스가 동시에 옮겨도 같은 주문을 두 번 옮기지 않는다.")
+    @Test
+    void archiveCompletedBefore_concurrently() throws InterruptedException {
+        // given
+        final int size = 20;
+        for (int i = 0; i < size; i++) {
+            completedOrderAt(CUTOFF.minusDays(1).plusMinutes(i));
+        }
+        final int instances = 4;
+        final CountDownLatch ready = new CountDownLatch(1);
+        final AtomicInteger archived = new AtomicInteger();
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(instances);
+
+        // when
+        for (int i = 0; i < instances; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    int batch;
+                    do {
+                        batch = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 3);
+                        archived.addAndGet(batch);
+                    } while (batch > 0);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (final RuntimeException e) {
+                    failures.add(e);
+                }
+            });
+        }
+        ready.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        assertAll(() -> {
+            assertThat(failures).isEmpty();
+            assertThat(archived.get()).isEqualTo(size);
+            assertThat(orderRepository.findAll()).isEmpty();
+        });
+    }
+
+    @DisplayName("한 번에 옮기는 주문 수는 배치 크기를 넘지 않는다.")
+    @Test
+    void archiveCompletedBefore_limit() {
+        // given
+        for (int day = 1; day <= 3; day++) {
+            completedOrderAt(CUTOFF.minusDays(day));
+        }
+
+        // when
+        final int first = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 2);
+        final int second = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 2);
+        final int third = orderArchiveRepository.archiveCompletedBefore(CUTOFF, 2);
+
+        // then
+        assertAll(() -> {
+            assertThat(first).isEqualTo(2);
+            assertThat(second).isEqualTo(1);
+            assertThat(third).isZero();
+            assertThat(orderRepository.findAll()).isEmpty();
+        });
+    }
+
+    @DisplayName("보관된 주문을 포함해 조회하면 원본과 보관 주문을 최신순으로 합쳐 반환한다.")
+    @Test
+    void findAll_includeArchived() {
+        // given
+        final Order oldest = completedOrderAt(CUTOFF.minusDays(2));
+        final Order older = completedOrderAt(CUTOFF.minusDays(1));
+        final Order latest = completedOrderAt(CUTOFF.plusDays(1));
+        orderArchiveRepository.archiveCompletedBefore(CUTOFF, 10);
+        final OrderSearchCondition condition = new OrderSearchCondition();
+        condition.setIncludeArchived(true);
+        condition.setSize(2);
+
+        // when
+        final List<Order> actual = orderService.findAll(condition);
+
+        // then
+        assertAll(() -> {
+            assertThat(ids(actual)).containsExactly(latest.getId(), older.getId());
+            assertThat(orderService.findById(oldest.getId(), true).getId()).isEqualTo(oldest.getId());
+            assertThatThrownBy(() -> orderService.findById(oldest.getId(), false))
+                .isInstanceOf(NoSuchElementException.class);
+        });
+    }
+
+    private Order completedOrderAt(final LocalDateTime orderDateTime) {
+        return completedOrderAt(orderDateTime, orderDateTime);
+    }
+
+    private Order completedOrderAt(final LocalDateTime orderDateTime, final LocalDateTime completedAt) {
+        final Order order = orderAt(orderDateTime);
+        orderService.accept(order.getId());
+        orderService.serve(order.getId());
+        final Order completed = orderService.complete(order.getId());
+        jdbcTemplate.update(
+            "update orders set status_changed_at = ?, completed_at = ? where id = ?",
+            completedAt, completedAt, toBytes(order.getId())
+        );
+        return completed;
+    }
+
+    private Order orderAt(final LocalDateTime orderDateTime) {
+        final Order order = orderService.create(
+            OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menu.getId(), 16_000L)))
+        );
+        jdbcTemplate.update("update orders set order_date_time = ? where id = ?", orderDateTime, toBytes(order.getId()));
+        return order;
+    }
+
+    private long countRows(final String table, final UUID orderId) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from " + table + " where order_id = ?", Long.class, (Object) toBytes(orderId)
+        );
+    }
+
+    private static List<UUID> ids(final List<Order> orders) {
+        return orders.stream()
+            .map(Order::getId)
+            .collect(Collectors.toList());
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,97 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.fake.InMemoryOrderArchiveRepository;
+import kitchenpos.fixture.fake.InMemoryOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderArchiverTest {
+
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryOrderArchiveRepository orderArchiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        orderArchiveRepository = new InMemoryOrderArchiveRepository(orderRepository);
+    }
+
+    @DisplayName("보관 기간이 지난 완료된 주문만 보관 테이블로 옮긴다.")
+    @Test
+    void archive() {
+        // given
+        final LocalDateTime old = LocalDateTime.now().minusDays(100);
+        final Order completed = saveOrder(OrderStatus.COMPLETED, old);
+        final Order served = saveOrder(OrderStatus.SERVED, old);
+        final Order recentlyCompleted = saveOrder(OrderStatus.COMPLETED, LocalDateTime.now());
+
+        // when
+        archiver(10, 10).archive();
+
+        // then
+        assertAll(() -> {
+            assertThat(orderArchiveRepository.findAll()).containsExactly(completed);
+            assertThat(orderRepository.findAll()).containsExactlyInAnyOrder(served, recentlyCompleted);
+        });
+    }
+
+    @DisplayName("오래전에 주문했더라도 최근에 완료된 주문은 옮기지 않는다.")
+    @Test
+    void archive_by_completion_time() {
+        // given
+        final Order recentlyCompleted = saveOrder(OrderStatus.COMPLETED, LocalDateTime.now().minusDays(100), LocalDateTime.now());
+
+        // when
+        archiver(10, 10).archive();
+
+        // then
+        assertAll(() -> {
+            assertThat(orderArchiveRepository.findAll()).isEmpty();
+            assertThat(orderRepository.findAll()).containsExactly(recentlyCompleted);
+        });
+    }
+
+    @DisplayName("배치 크기만큼 나누어 옮기고, 한 번에 최대 배치 수까지만 옮긴다.")
+    @Test
+    void archive_in_batches() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveOrder(OrderStatus.COMPLETED, LocalDateTime.now().minusDays(100).plusMinutes(i));
+        }
+
+        // when
+        archiver(2, 2).archive();
+
+        // then
+        assertAll(() -> {
+            assertThat(orderArchiveRepository.findAll()).hasSize(4);
+            assertThat(orderRepository.findAll()).hasSize(1);
+        });
+    }
+
+    private OrderArchiver archiver(final int batchSize, final int maxBatches) {
+        return new OrderArchiver(orderArchiveRepository, Duration.ofDays(90), batchSize, maxBatches, Duration.ZERO);
+    }
+
+    private Order saveOrder(final OrderStatus status, final LocalDateTime orderDateTime) {
+        return saveOrder(status, orderDateTime, orderDateTime);
+    }
+
+    private Order saveOrder(final OrderStatus status, final LocalDateTime orderDateTime, final LocalDateTime statusChangedAt) {
+        final Order order = OrderFixture.create(OrderType.TAKEOUT, status);
+        order.setOrderDateTime(orderDateTime);
+        order.setStatusChangedAt(statusChangedAt);
+        return orderRepository.save(order);
+    }
+}
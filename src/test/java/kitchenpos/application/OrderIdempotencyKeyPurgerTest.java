@@ -0,0 +1,82 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.fixture.fake.InMemoryOrderIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderIdempotencyKeyPurgerTest {
+
+    private InMemoryOrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository();
+    }
+
+    @DisplayName("보관 기간이 지난 Idempotency-Key 만 지운다.")
+    @Test
+    void purge() {
+        // given
+        saveKey("old", LocalDateTime.now().minusDays(8));
+        saveKey("recent", LocalDateTime.now().minusDays(1));
+
+        // when
+        purger(Duration.ofDays(7), 10, 10).purge();
+
+        // then
+        assertAll(() -> {
+            assertThat(orderIdempotencyKeyRepository.findById("old")).isEmpty();
+            assertThat(orderIdempotencyKeyRepository.findById("recent")).isPresent();
+        });
+    }
+
+    @DisplayName("배치 크기만큼 나누어 지우고, 한 번에 최대 배치 수까지만 지운다.")
+    @Test
+    void purge_in_batches() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveKey("old-" + i, LocalDateTime.now().minusDays(8));
+        }
+
+        // when
+        purger(Duration.ofDays(7), 2, 2).purge();
+
+        // then
+        assertThat(orderIdempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now(), 10)).isEqualTo(1);
+    }
+
+    @DisplayName("보관 기간은 캐시 유지 시간보다 짧을 수 없다.")
+    @Test
+    void retention_shorter_than_cache_ttl() {
+        assertThatThrownBy(() -> purger(Duration.ofMinutes(1), 10, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderIdempotencyKeyPurger purger(final Duration retention, final int batchSize, final int maxBatches) {
+        return new OrderIdempotencyKeyPurger(
+            orderIdempotencyKeyRepository,
+            retention,
+            Duration.ofMinutes(10),
+            batchSize,
+            maxBatches,
+            Duration.ZERO
+        );
+    }
+
+    private void saveKey(final String idempotencyKey, final LocalDateTime createdAt) {
+        final OrderIdempotencyKey orderIdempotencyKey = new OrderIdempotencyKey();
+        orderIdempotencyKey.setIdempotencyKey(idempotencyKey);
+        orderIdempotencyKey.setOrderId(UUID.randomUUID());
+        orderIdempotencyKey.setCreatedAt(createdAt);
+        orderIdempotencyKeyRepository.insertIfAbsent(orderIdempotencyKey);
+    }
+}
@@ -0,0 +1,92 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLatency;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.fake.InMemoryOrderLatencyRepository;
+import kitchenpos.fixture.fake.InMemoryOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderLatencyReportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2022, 9, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private InMemoryOrderRepository orderRepository;
+    private OrderLatencyReportService orderLatencyReportService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        orderLatencyReportService = new OrderLatencyReportService(
+                new InMemoryOrderLatencyRepository(orderRepository),
+                Duration.ofDays(31)
+        );
+    }
+
+    @DisplayName("조회 기간 안에 끝난 주문들의 소요 시간 백분위를 계산한다.")
+    @Test
+    void report() {
+        // given
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            saveServedOrder(FROM.plusHours(1), minutes);
+        }
+        saveServedOrder(TO, 1_000);
+
+        // when
+        final OrderLatencyReport result = orderLatencyReportService.report(OrderLatency.PREPARATION, FROM, TO);
+
+        // then
+        assertAll(() -> {
+            assertThat(result.getCount()).isEqualTo(100);
+            assertThat(result.getP50Millis()).isEqualTo(Duration.ofMinutes(50).toMillis());
+            assertThat(result.getP99Millis()).isEqualTo(Duration.ofMinutes(99).toMillis());
+            assertThat(result.getMaxMillis()).isEqualTo(Duration.ofMinutes(100).toMillis());
+        });
+    }
+
+    @DisplayName("조회 기간 안에 끝난 주문이 없으면 모든 값이 0이다.")
+    @Test
+    void report_empty() {
+        // when
+        final OrderLatencyReport result = orderLatencyReportService.report(OrderLatency.ACCEPT, FROM, TO);
+
+        // then
+        assertAll(() -> {
+            assertThat(result.getCount()).isZero();
+            assertThat(result.getMaxMillis()).isZero();
+        });
+    }
+
+    @DisplayName("조회 시작 시각은 종료 시각보다 앞서야 한다.")
+    @Test
+    void invalid_range() {
+        assertThatThrownBy(() -> orderLatencyReportService.report(OrderLatency.ACCEPT, TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("조회 기간은 최대 조회 기간보다 길 수 없다.")
+    @Test
+    void too_long_range() {
+        assertThatThrownBy(() -> orderLatencyReportService.report(OrderLatency.ACCEPT, FROM, FROM.plusDays(32)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void saveServedOrder(final LocalDateTime acceptedAt, final long preparationMinutes) {
+        final Order order = OrderFixture.create(OrderType.TAKEOUT, OrderStatus.SERVED);
+        order.setAcceptedAt(acceptedAt);
+        order.setServedAt(acceptedAt.plusMinutes(preparationMinutes));
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderLatency;
+import kitchenpos.domain.OrderLatencyBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderLatencyReportTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2022, 9, 1, 0, 0);
+
+    @DisplayName("구간별 주문 수 히스토그램에서 누적 순위가 처음 닿는 구간의 최댓값을 백분위로 쓴다.")
+    @Test
+    void of() {
+        // given
+        final List<OrderLatencyBucket> histogram = List.of(
+            new OrderLatencyBucket(50, 1_000),
+            new OrderLatencyBucket(40, 2_000),
+            new OrderLatencyBucket(6, 5_000),
+            new OrderLatencyBucket(4, 9_000)
+        );
+
+        // when
+        final OrderLatencyReport result = OrderLatencyReport.of(OrderLatency.ACCEPT, FROM, FROM.plusDays(1), histogram);
+
+        // then
+        assertAll(() -> {
+            assertThat(result.getCount()).isEqualTo(100);
+            assertThat(result.getP50Millis()).isEqualTo(1_000);
+            assertThat(result.getP90Millis()).isEqualTo(2_000);
+            assertThat(result.getP95Millis()).isEqualTo(5_000);
+            assertThat(result.getP99Millis()).isEqualTo(9_000);
+            assertThat(result.getMaxMillis()).isEqualTo(9_000);
+        });
+    }
+}
@@ -0,0 +1,273 @@
+package kitchenpos.application;
+
+import kitchenpos.acceptance.AcceptanceTestConfig;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderAction;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.FixtureSaver;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderLineItemFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.utils.DatabaseCleanUp;
+import kitchenpos.utils.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import javax.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(AcceptanceTestConfig.class)
+class OrderServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TABLE_COUNT = 2;
+    private static final int ORDERS_PER_TYPE = 4;
+    private static final int WORKERS_PER_ORDER = 2;
+    private static final Map<OrderType, List<OrderAction>> FLOWS = Map.of(
+        OrderType.EAT_IN, List.of(OrderAction.ACCEPT, OrderAction.SERVE, OrderAction.COMPLETE),
+        OrderType.TAKEOUT, List.of(OrderAction.ACCEPT, OrderAction.SERVE, OrderAction.COMPLETE),
+        OrderType.DELIVERY, List.of(
+            OrderAction.ACCEPT, OrderAction.SERVE, OrderAction.START_DELIVERY, OrderAction.COMPLETE_DELIVERY, OrderAction.COMPLETE
+        )
+    );
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private FixtureSaver fixtureSaver;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.execute();
+    }
+
+    @DisplayName("같은 주문을 동시에 승인하면 한 번만 반영되고 나머지는 충돌로 처리된다.")
+    @Test
+    void concurrent_accept() throws InterruptedException {
+        // given
+        final Order order = orderService.create(
+            OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(fixtureSaver.saveMenu().getId(), 16_000L)))
+        );
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    retryExecutor.execute(() -> orderService.accept(order.getId()));
+                    succeeded.incrementAndGet();
+                } catch (final RuntimeException | InterruptedException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        ready.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        final Order actual = orderRepository.findById(order.getId()).get();
+        assertAll(() -> {
+            assertThat(succeeded.get()).isEqualTo(1);
+            assertThat(rejected.get()).isEqualTo(THREAD_COUNT - 1);
+            assertThat(actual.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+            assertThat(actual.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @DisplayName("같은 멱등성 키로 동시에 주문하면 주문은 한 번만 등록되고 모두 같은 주문을 받는다.")
+    @Test
+    void concurrent_create_with_same_idempotency_key() throws InterruptedException {
+        // given
+        final Order request = OrderFixture.createRequest(
+            OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(fixtureSaver.saveMenu().getId(), 16_000L))
+        );
+        final Set<UUID> orderIds = ConcurrentHashMap.newKeySet();
+        final AtomicInteger failed = new AtomicInteger();
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    orderIds.add(orderService.create(request, "pos-1-race").getId());
+                } catch (final RuntimeException | InterruptedException e) {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+        ready.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertAll(() -> {
+            assertThat(failed.get()).isZero();
+            assertThat(orderIds).hasSize(1);
+            assertThat(orderRepository.findAll()).hasSize(1);
+        });
+    }
+
+    @DisplayName("여러 주문의 상태 변경과 테이블 정리, 착석이 동시에 일어나도 갱신을 잃지 않고 비관적 락을 쓰지 않는다.")
+    @Test
+    void mixed_transitions_under_contention() throws InterruptedException {
+        // given
+        final Menu menu = fixtureSaver.saveMenu();
+        final List<OrderTable> orderTables = new ArrayList<>();
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            final OrderTable orderTable = orderTableService.create(OrderTableFixture.create(i + "번 테이블", 0, false));
+            orderTables.add(orderTableService.sit(orderTable.getId()));
+        }
+        final List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS_PER_TYPE; i++) {
+            final List<OrderLineItem> orderLineItems = List.of(OrderLineItemFixture.createRequest(menu.getId(), 16_000L));
+            final UUID orderTableId = orderTables.get(i % TABLE_COUNT).getId();
+            orders.add(orderService.create(OrderFixture.createRequest(OrderType.EAT_IN, orderTableId, orderLineItems)));
+            orders.add(orderService.create(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItems)));
+            orders.add(orderService.create(OrderFixture.createRequest(OrderType.DELIVERY, "서울시 송파구", orderLineItems)));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(orders.size() * WORKERS_PER_ORDER + TABLE_COUNT);
+        SqlStatementCounter.clear();
+
+        // when
+        final List<Future<?>> orderWorkers = new ArrayList<>();
+        for (final Order order : orders) {
+            for (int i = 0; i < WORKERS_PER_ORDER; i++) {
+                orderWorkers.add(executorService.submit(() -> driveToCompletion(order, ready, unexpected)));
+            }
+        }
+        for (final OrderTable orderTable : orderTables) {
+            executorService.submit(() -> clearAndSit(orderTable, ready, running, unexpected));
+        }
+        ready.countDown();
+        for (final Future<?> orderWorker : orderWorkers) {
+            try {
+                orderWorker.get(60, TimeUnit.SECONDS);
+            } catch (final ExecutionException | TimeoutException e) {
+                unexpected.add(e);
+            }
+        }
+        running.set(false);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertAll(() -> {
+            assertThat(unexpected).isEmpty();
+            for (final Order order : orders) {
+                final Order actual = orderRepository.findById(order.getId()).get();
+                assertThat(actual.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                assertThat(actual.getVersion()).isEqualTo((long) FLOWS.get(actual.getType()).size());
+                assertThat(actual.getCompletedAt()).isNotNull();
+            }
+            for (final OrderTable orderTable : orderTables) {
+                assertThat(orderTableRepository.findById(orderTable.getId()).get().getOpenOrderCount()).isZero();
+            }
+            assertThat(SqlStatementCounter.countMatching(sql -> sql.contains("for update")
+                || sql.contains("for share")
+                || sql.contains("lock in share mode"))).isZero();
+        });
+    }
+
+    private void driveToCompletion(final Order order, final CountDownLatch ready, final Queue<Throwable> unexpected) {
+        try {
+            ready.await();
+            while (true) {
+                final Order current = orderRepository.findById(order.getId()).get();
+                if (current.getStatus() == OrderStatus.COMPLETED) {
+                    return;
+                }
+                // every committed transition bumps the version by one, so it doubles as the step index
+                final OrderAction action = FLOWS.get(current.getType()).get(current.getVersion().intValue());
+                try {
+                    retryExecutor.execute(() -> orderService.transition(order.getId(), action));
+                } catch (final OptimisticLockingFailureException | OptimisticLockException | IllegalStateException e) {
+                    // another worker won this step; re-read and try the next one
+                }
+            }
+        } catch (final RuntimeException | InterruptedException e) {
+            unexpected.add(e);
+        }
+    }
+
+    private void clearAndSit(
+        final OrderTable orderTable,
+        final CountDownLatch ready,
+        final AtomicBoolean running,
+        final Queue<Throwable> unexpected
+    ) {
+        try {
+            ready.await();
+            while (running.get()) {
+                try {
+                    retryExecutor.execute(() -> orderTableService.clear(orderTable.getId()));
+                } catch (final OptimisticLockingFailureException | OptimisticLockException | IllegalStateException e) {
+                    // open orders remain or an order completion won the race
+                }
+                try {
+                    retryExecutor.execute(() -> orderTableService.sit(orderTable.getId()));
+                } catch (final OptimisticLockingFailureException | OptimisticLockException e) {
+                    // an order completion won the race
+                }
+            }
+        } catch (final RuntimeException | InterruptedException e) {
+            unexpected.add(e);
+        }
+    }
+}
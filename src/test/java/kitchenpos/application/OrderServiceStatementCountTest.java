@@ -0,0 +1,248 @@
+package kitchenpos.application;
+
+import kitchenpos.acceptance.AcceptanceTestConfig;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderAction;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.FixtureSaver;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderLineItemFixture;
+import kitchenpos.utils.SqlStatementCounter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(AcceptanceTestConfig.class)
+@Transactional
+class OrderServiceStatementCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FixtureSaver fixtureSaver;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("주문 내역의 개수가 늘어나도 주문 등록 시 조회 쿼리 수는 일정하다.")
+    @Test
+    void select_count_does_not_grow_with_orderLineItems() {
+        // given
+        final List<OrderLineItem> single = orderLineItemRequests(1);
+        final List<OrderLineItem> many = orderLineItemRequests(30);
+
+        // when
+        final long singleSelectCount = selectCountOfCreate(single);
+        final long manySelectCount = selectCountOfCreate(many);
+
+        // then
+        assertThat(manySelectCount).isEqualTo(singleSelectCount);
+    }
+
+    @DisplayName("주문 내역이 많은 주문도 주문 내역은 한 번의 배치로 등록한다.")
+    @Test
+    void orderLineItems_are_inserted_in_one_batch() {
+        // given
+        final int size = 30;
+        final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItemRequests(size));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        SqlStatementCounter.clear();
+
+        // when
+        orderService.create(request);
+        entityManager.flush();
+
+        // then
+        assertAll(() -> {
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(size + 1L);
+            assertThat(SqlStatementCounter.countStartingWith("insert into order_line_item")).isEqualTo(1L);
+            assertThat(SqlStatementCounter.countStartingWith("insert into orders")).isEqualTo(1L);
+        });
+    }
+
+    @DisplayName("주문 N건을 일괄 등록하면 N번 개별 등록할 때보다 적은 쿼리로 처리한다.")
+    @Test
+    void createAll_uses_fewer_statements_than_n_single_creates() {
+        // given
+        final int size = 50;
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItemRequests(3)));
+        }
+
+        // when
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        requests.forEach(orderService::create);
+        entityManager.flush();
+        final long singleSelectCount = selectCount();
+        final long singleInsertCount = statistics.getEntityInsertCount();
+
+        entityManager.clear();
+        statistics.clear();
+        SqlStatementCounter.clear();
+        orderService.createAll(requests);
+        final long batchSelectCount = selectCount();
+        final long batchInsertCount = statistics.getEntityInsertCount();
+
+        // then
+        assertAll(() -> {
+            assertThat(batchSelectCount).isEqualTo(1L);
+            assertThat(batchSelectCount).isLessThan(singleSelectCount);
+            assertThat(singleInsertCount).isEqualTo(size * 4L);
+            assertThat(batchInsertCount).isEqualTo(size * 4L);
+            assertThat(SqlStatementCounter.countStartingWith("insert into orders")).isEqualTo(1L);
+            assertThat(SqlStatementCounter.countStartingWith("insert into order_line_item")).isBetween(1L, 2L);
+        });
+    }
+
+    @DisplayName("일괄 등록한 주문은 개별 등록한 주문과 같은 값으로 저장된다.")
+    @Test
+    void createAll_stores_same_columns_as_create() {
+        // given
+        final List<OrderLineItem> orderLineItems = orderLineItemRequests(2);
+        final Order single = orderService.create(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItems));
+        final Order batch = orderService.createAll(List.of(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItems)))
+            .get(0)
+            .getOrder();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final Order singleResult = entityManager.find(Order.class, single.getId());
+        final Order batchResult = entityManager.find(Order.class, batch.getId());
+
+        // then
+        assertAll(() -> {
+            assertThat(batchResult).usingRecursiveComparison()
+                .ignoringFields("id", "orderDateTime", "statusChangedAt", "orderLineItems", "orderTable")
+                .isEqualTo(singleResult);
+            assertThat(batchResult.getStatusChangedAt()).isEqualTo(batchResult.getOrderDateTime());
+            assertThat(batchResult.getOrderLineItems())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("seq", "menu")
+                .containsExactlyInAnyOrderElementsOf(singleResult.getOrderLineItems());
+            assertThat(batchResult.getOrderLineItems()).allSatisfy(orderLineItem -> assertThat(orderLineItem.getSeq()).isNotNull());
+        });
+    }
+
+    @DisplayName("주문 N건의 상태를 한 번에 변경하면 한 번 조회하고 한 번의 배치로 변경한다.")
+    @Test
+    void transitionAll_uses_one_select_and_one_batch() {
+        // given
+        final int size = 20;
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItemRequests(1)));
+        }
+        final List<UUID> orderIds = orderService.createAll(requests).stream()
+            .map(result -> result.getOrder().getId())
+            .collect(Collectors.toList());
+        final OrderTransitionRequest request = new OrderTransitionRequest();
+        request.setOrderIds(orderIds);
+        request.setAction(OrderAction.ACCEPT);
+
+        // when
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        orderService.transitionAll(request);
+        entityManager.flush();
+
+        // then
+        assertAll(() -> {
+            assertThat(selectCount()).isEqualTo(1L);
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(size);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        });
+    }
+
+    @DisplayName("주문을 내보낼 때 주문 수가 늘어나도 조회 쿼리 수는 일정하다.")
+    @Test
+    void export_select_count_does_not_grow_with_orders() throws IOException {
+        // given
+        final int size = 30;
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItemRequests(2)));
+        }
+        orderService.createAll(requests);
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.clear();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.export(outputStream);
+
+        // then
+        assertAll(() -> {
+            assertThat(outputStream.toString(StandardCharsets.UTF_8).lines()).hasSize(size);
+            assertThat(SqlStatementCounter.countStartingWith("select")).isEqualTo(2L);
+        });
+    }
+
+    private long selectCountOfCreate(final List<OrderLineItem> orderLineItems) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, orderLineItems);
+        orderService.create(request);
+        entityManager.flush();
+        return selectCount();
+    }
+
+    private long selectCount() {
+        return statistics.getQueryExecutionCount()
+            + statistics.getEntityFetchCount()
+            + statistics.getCollectionFetchCount();
+    }
+
+    private List<OrderLineItem> orderLineItemRequests(final int size) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final Menu menu = fixtureSaver.saveMenu("메뉴" + i);
+            orderLineItems.add(OrderLineItemFixture.createRequest(menu.getId(), menu.getPrice().longValue()));
+        }
+        return orderLineItems;
+    }
+}
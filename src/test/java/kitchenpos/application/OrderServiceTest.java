@@ -4,16 +4,20 @@ import kitchenpos.fixture.MenuFixture;
 import kitchenpos.fixture.OrderLineItemFixture;
 import kitchenpos.fixture.OrderFixture;
 import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderArchiveRepository;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderTransitions;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,9 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -42,6 +48,9 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
     @Mock
     private MenuRepository menuRepository;
 
@@ -49,7 +58,16 @@ class OrderServiceTest {
     private OrderTableRepository orderTableRepository;
 
     @Mock
-    private KitchenridersClient kitchenridersClient;
+    private DeliveryRequestRepository deliveryRequestRepository;
+
+    @Spy
+    private OrderTransitions orderTransitions = OrderTransitions.standard();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
 
     @InjectMocks
     private OrderService orderService;
@@ -94,11 +112,10 @@ class OrderServiceTest {
         @Test
         void contain_hidden_menu() {
             // given
-            final Order request = OrderFixture.createRequest(OrderType.EAT_IN);
             final Menu menu = MenuFixture.createDefault();
             menu.setDisplayed(false);
+            final Order request = OrderFixture.createRequest(OrderType.EAT_IN, List.of(OrderLineItemFixture.createRequest(menu.getId())));
             given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-            given(menuRepository.findById(any())).willReturn(Optional.of(menu));
 
             // then
             assertThatThrownBy(() -> orderService.create(request)).isInstanceOf(IllegalStateException.class);
@@ -108,13 +125,12 @@ class OrderServiceTest {
         @Test
         void same_menuPrice_and_orderLineItemsPrice() {
             // given
+            final Menu menu = MenuFixture.createDefault();
             final Order request = OrderFixture.createRequest(OrderType.EAT_IN);
-            final OrderLineItem orderLineItemRequest = OrderLineItemFixture.createRequest();
+            final OrderLineItem orderLineItemRequest = OrderLineItemFixture.createRequest(menu.getId());
             orderLineItemRequest.setPrice(BigDecimal.valueOf(10_000));
             request.setOrderLineItems(List.of(orderLineItemRequest));
-            final Menu menu = MenuFixture.createDefault();
             given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-            given(menuRepository.findById(any())).willReturn(Optional.of(menu));
 
             // then
             assertThatThrownBy(() -> orderService.create(request)).isInstanceOf(IllegalArgumentException.class);
@@ -128,12 +144,15 @@ class OrderServiceTest {
             @Test
             void create() {
                 // given
-                final Order request = OrderFixture.createRequest(OrderType.EAT_IN);
-                final OrderTable orderTable = OrderTableFixture.createUsedTable();
                 final Menu menu = MenuFixture.createDefault();
+                final OrderTable orderTable = OrderTableFixture.createUsedTable();
+                final Order request = OrderFixture.createRequest(
+                        OrderType.EAT_IN,
+                        orderTable.getId(),
+                        List.of(OrderLineItemFixture.createRequest(menu.getId()))
+                );
                 given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-                given(menuRepository.findById(any())).willReturn(Optional.of(menu));
-                given(orderTableRepository.findById(any())).willReturn(Optional.of(orderTable));
+                given(orderTableRepository.findAllByIdIn(any())).willReturn(List.of(orderTable));
                 given(orderRepository.save(any())).will(AdditionalAnswers.returnsFirstArg());
 
                 // when
@@ -153,12 +172,15 @@ class OrderServiceTest {
             @Test
             void not_occupied_table() {
                 // given
-                final Order request = OrderFixture.createRequest(OrderType.EAT_IN);
-                final OrderTable orderTable = OrderTableFixture.create("1번", 0, false);
                 final Menu menu = MenuFixture.createDefault();
+                final OrderTable orderTable = OrderTableFixture.create("1번", 0, false);
+                final Order request = OrderFixture.createRequest(
+                        OrderType.EAT_IN,
+                        orderTable.getId(),
+                        List.of(OrderLineItemFixture.createRequest(menu.getId()))
+                );
                 given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-                given(menuRepository.findById(any())).willReturn(Optional.of(menu));
-                given(orderTableRepository.findById(any())).willReturn(Optional.of(orderTable));
+                given(orderTableRepository.findAllByIdIn(any())).willReturn(List.of(orderTable));
 
                 // then
                 assertThatThrownBy(() -> orderService.create(request)).isInstanceOf(IllegalStateException.class);
@@ -173,11 +195,10 @@ class OrderServiceTest {
             @Test
             void create() {
                 // given
-                final Order request = OrderFixture.createRequest(OrderType.TAKEOUT);
-                final OrderTable orderTable = OrderTableFixture.createUsedTable();
                 final Menu menu = MenuFixture.createDefault();
+                final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menu.getId())));
+                final OrderTable orderTable = OrderTableFixture.createUsedTable();
                 given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-                given(menuRepository.findById(any())).willReturn(Optional.of(menu));
                 given(orderRepository.save(any())).will(AdditionalAnswers.returnsFirstArg());
 
                 // when
@@ -216,11 +237,10 @@ class OrderServiceTest {
             @Test
             void create() {
                 // given
-                final Order request = OrderFixture.createRequest(OrderType.DELIVERY);
-                final OrderTable orderTable = OrderTableFixture.createUsedTable();
                 final Menu menu = MenuFixture.createDefault();
+                final Order request = OrderFixture.createRequest(OrderType.DELIVERY, List.of(OrderLineItemFixture.createRequest(menu.getId())));
+                final OrderTable orderTable = OrderTableFixture.createUsedTable();
                 given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-                given(menuRepository.findById(any())).willReturn(Optional.of(menu));
                 given(orderRepository.save(any())).will(AdditionalAnswers.returnsFirstArg());
 
                 // when
@@ -255,11 +275,10 @@ class OrderServiceTest {
             @NullAndEmptySource
             void null_or_empty_address(String deliveryAddress) {
                 // given
-                final Order request = OrderFixture.createRequest(OrderType.DELIVERY);
-                request.setDeliveryAddress(deliveryAddress);
                 final Menu menu = MenuFixture.createDefault();
+                final Order request = OrderFixture.createRequest(OrderType.DELIVERY, List.of(OrderLineItemFixture.createRequest(menu.getId())));
+                request.setDeliveryAddress(deliveryAddress);
                 given(menuRepository.findAllByIdIn(any())).willReturn(List.of(menu));
-                given(menuRepository.findById(any())).willReturn(Optional.of(menu));
 
                 // then
                 assertThatThrownBy(() -> orderService.create(request)).isInstanceOf(IllegalArgumentException.class);
@@ -412,7 +431,6 @@ class OrderServiceTest {
                 // given
                 final Order order = OrderFixture.create(OrderType.EAT_IN, OrderStatus.SERVED);
                 given(orderRepository.findById(any())).willReturn(Optional.of(order));
-                given(orderRepository.existsByOrderTableAndStatusNot(any(), any())).willReturn(false);
 
                 // when
                 Order result = orderService.complete(order.getId());
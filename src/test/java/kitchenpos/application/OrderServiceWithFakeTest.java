@@ -1,21 +1,29 @@
 package kitchenpos.application;
 
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderAction;
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
 import kitchenpos.domain.OrderLineItem;
-import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderTransitions;
 import kitchenpos.domain.OrderType;
-import kitchenpos.domain.RiderAgencyClient;
 import kitchenpos.fixture.MenuFixture;
 import kitchenpos.fixture.OrderFixture;
 import kitchenpos.fixture.OrderLineItemFixture;
 import kitchenpos.fixture.OrderTableFixture;
-import kitchenpos.fixture.fake.DummyRiderAgencyClient;
+import kitchenpos.fixture.fake.InMemoryDeliveryRequestRepository;
 import kitchenpos.fixture.fake.InMemoryMenuRepository;
+import kitchenpos.fixture.fake.InMemoryOrderArchiveRepository;
+import kitchenpos.fixture.fake.InMemoryOrderIdempotencyKeyRepository;
 import kitchenpos.fixture.fake.InMemoryOrderRepository;
 import kitchenpos.fixture.fake.InMemoryOrderTableRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,8 +31,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,19 +47,39 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 public class OrderServiceWithFakeTest {
 
-    private OrderRepository orderRepository;
+    private InMemoryOrderRepository orderRepository;
+    private InMemoryOrderArchiveRepository orderArchiveRepository;
     private MenuRepository menuRepository;
     private OrderTableRepository orderTableRepository;
-    private RiderAgencyClient riderAgencyClient;
+    private InMemoryDeliveryRequestRepository deliveryRequestRepository;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private List<Object> events;
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
         orderRepository = new InMemoryOrderRepository();
+        orderArchiveRepository = new InMemoryOrderArchiveRepository(orderRepository);
         menuRepository = new InMemoryMenuRepository();
         orderTableRepository = new InMemoryOrderTableRepository();
-        riderAgencyClient = new DummyRiderAgencyClient();
-        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, riderAgencyClient);
+        deliveryRequestRepository = new InMemoryDeliveryRequestRepository();
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository();
+        events = new ArrayList<>();
+        orderService = orderService(OrderTransitions.standard());
+    }
+
+    private OrderService orderService(final OrderTransitions orderTransitions) {
+        return new OrderService(
+                orderRepository,
+                orderArchiveRepository,
+                menuRepository,
+                orderTableRepository,
+                deliveryRequestRepository,
+                orderTransitions,
+                new OrderIdempotencyKeys(orderIdempotencyKeyRepository, 100, Duration.ofMinutes(10)),
+                events::add,
+                new UuidV7Generator()
+        );
     }
 
     @DisplayName("주문을 등록")
@@ -107,6 +141,33 @@ public class OrderServiceWithFakeTest {
             assertThatThrownBy(() -> orderService.create(request)).isInstanceOf(IllegalArgumentException.class);
         }
 
+        @DisplayName("주문 내역의 가격과 주문 총액은 등록 시점의 메뉴 가격으로 저장된다.")
+        @Test
+        void total_price() {
+            // given
+            final Menu first = menuRepository.save(MenuFixture.create(15_000L));
+            final Menu second = menuRepository.save(MenuFixture.create(20_000L));
+            final Order request = OrderFixture.createRequest(
+                    OrderType.TAKEOUT,
+                    List.of(
+                            OrderLineItemFixture.createRequest(first.getId(), 15_000L, 2L),
+                            OrderLineItemFixture.createRequest(second.getId(), 20_000L, 1L)
+                    )
+            );
+
+            // when
+            final Order result = orderService.create(request);
+            first.setPrice(BigDecimal.valueOf(30_000L));
+
+            // then
+            assertAll(() -> {
+                assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(50_000L));
+                assertThat(result.getOrderLineItems()).extracting(OrderLineItem::getPrice)
+                        .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                        .containsExactly(BigDecimal.valueOf(15_000L), BigDecimal.valueOf(20_000L));
+            });
+        }
+
         @DisplayName("매장 식사 주문")
         @Nested
         class EatIn {
@@ -134,6 +195,7 @@ public class OrderServiceWithFakeTest {
                     assertThat(result.getOrderDateTime()).isNotNull();
                     assertThat(result.getOrderLineItems().size()).isNotZero();
                     assertThat(result.getOrderTable()).isNotNull();
+                    assertThat(result.getOrderTable().getOpenOrderCount()).isEqualTo(1);
                 });
             }
 
@@ -255,6 +317,133 @@ public class OrderServiceWithFakeTest {
         }
     }
 
+    @DisplayName("Idempotency-Key 로 주문을 등록")
+    @Nested
+    class CreateWithIdempotencyKeyTest {
+
+        @DisplayName("같은 키로 다시 요청하면 검증과 등록 없이 처음 등록된 주문을 반환한다.")
+        @Test
+        void retry_returns_original_order() {
+            // given
+            final Menu menu = menuRepository.save(MenuFixture.createDefault());
+            final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menu.getId())));
+            final Order original = orderService.create(request, "pos-1-0001");
+            menu.setDisplayed(false);
+
+            // when
+            final Order retried = orderService.create(request, "pos-1-0001");
+
+            // then
+            assertAll(() -> {
+                assertThat(retried.getId()).isEqualTo(original.getId());
+                assertThat(orderRepository.findAll()).hasSize(1);
+            });
+        }
+
+        @DisplayName("캐시에 없는 키는 저장된 키로 처음 등록된 주문을 찾는다.")
+        @Test
+        void find_original_order_from_repository() {
+            // given
+            final UUID menuId = menuRepository.save(MenuFixture.createDefault()).getId();
+            final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menuId)));
+            final Order original = orderService.create(request, "pos-1-0002");
+            final OrderService restarted = orderService(OrderTransitions.standard());
+
+            // when
+            final Order retried = restarted.create(request, "pos-1-0002");
+
+            // then
+            assertAll(() -> {
+                assertThat(retried.getId()).isEqualTo(original.getId());
+                assertThat(orderRepository.findAll()).hasSize(1);
+            });
+        }
+
+        @DisplayName("처음 등록된 주문이 보관된 뒤에 다시 요청해도 보관된 주문을 반환한다.")
+        @Test
+        void retry_returns_archived_order() {
+            // given
+            final UUID menuId = menuRepository.save(MenuFixture.createDefault()).getId();
+            final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menuId)));
+            final Order original = orderService.create(request, "pos-1-0005");
+            original.setStatus(OrderStatus.COMPLETED);
+            original.setCompletedAt(LocalDateTime.now());
+            orderArchiveRepository.archiveCompletedBefore(LocalDateTime.now().plusDays(1), 10);
+
+            // when
+            final Order retried = orderService.create(request, "pos-1-0005");
+
+            // then
+            assertAll(() -> {
+                assertThat(retried.getId()).isEqualTo(original.getId());
+                assertThat(orderRepository.findAll()).isEmpty();
+            });
+        }
+
+        @DisplayName("키가 저장할 수 있는 길이보다 길면 등록할 수 없다.")
+        @Test
+        void too_long_key() {
+            // given
+            final UUID menuId = menuRepository.save(MenuFixture.createDefault()).getId();
+            final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menuId)));
+            final String idempotencyKey = "k".repeat(OrderIdempotencyKey.MAX_LENGTH + 1);
+
+            // then
+            assertThatThrownBy(() -> orderService.create(request, idempotencyKey)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @DisplayName("다른 키로 요청하면 새로운 주문을 등록한다.")
+        @Test
+        void different_key_creates_new_order() {
+            // given
+            final UUID menuId = menuRepository.save(MenuFixture.createDefault()).getId();
+            final Order request = OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menuId)));
+            final Order first = orderService.create(request, "pos-1-0003");
+
+            // when
+            final Order second = orderService.create(request, "pos-1-0004");
+
+            // then
+            assertThat(second.getId()).isNotEqualTo(first.getId());
+        }
+    }
+
+    @DisplayName("주문을 일괄 등록")
+    @Nested
+    class CreateAllTest {
+
+        @DisplayName("등록 요청이 비어있을 수 없다.")
+        @ParameterizedTest
+        @NullAndEmptySource
+        void null_or_empty_requests(List<Order> requests) {
+            assertThatThrownBy(() -> orderService.createAll(requests)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @DisplayName("주문별로 등록 결과를 반환하고, 성공한 주문만 저장한다.")
+        @Test
+        void createAll() {
+            // given
+            final UUID menuId = menuRepository.save(MenuFixture.createDefault()).getId();
+            final UUID hiddenMenuId = menuRepository.save(MenuFixture.create(false)).getId();
+            final UUID orderTableId = orderTableRepository.save(OrderTableFixture.createUsedTable()).getId();
+            final List<Order> requests = List.of(
+                    OrderFixture.createRequest(OrderType.EAT_IN, orderTableId, List.of(OrderLineItemFixture.createRequest(menuId))),
+                    OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(hiddenMenuId))),
+                    OrderFixture.createRequest(OrderType.DELIVERY, List.of(OrderLineItemFixture.createRequest(menuId)))
+            );
+
+            // when
+            final List<OrderBatchResult> results = orderService.createAll(requests);
+
+            // then
+            assertAll(() -> {
+                assertThat(results).extracting(OrderBatchResult::isSuccess).containsExactly(true, false, true);
+                assertThat(results.get(1).getError()).isEqualTo(IllegalStateException.class.getSimpleName());
+                assertThat(orderRepository.findAll()).hasSize(2);
+            });
+        }
+    }
+
     @DisplayName("주문을 승인한다.")
     @Nested
     class AcceptTest {
@@ -269,7 +458,66 @@ public class OrderServiceWithFakeTest {
             Order result = orderService.accept(order.getId());
 
             // then
-            assertThat(result.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+            assertAll(() -> {
+                assertThat(result.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+                assertThat(result.getAcceptedAt()).isNotNull().isEqualTo(result.getStatusChangedAt());
+            });
+        }
+
+        @DisplayName("승인되면 주문 상태 변경 이벤트를 발행한다.")
+        @Test
+        void accept_publishes_event() {
+            // given
+            final Order order = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.WAITING));
+
+            // when
+            orderService.accept(order.getId());
+
+            // then
+            assertThat(events).singleElement()
+                    .isInstanceOfSatisfying(OrderStatusChangedEvent.class, event -> {
+                        assertThat(event.getOrderId()).isEqualTo(order.getId());
+                        assertThat(event.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+                        assertThat(event.getPreviousStatus()).isEqualTo(OrderStatus.WAITING);
+                        assertThat(event.getPreviousStatusChangedAt()).isEqualTo(order.getOrderDateTime());
+                        assertThat(event.getOccurredAt()).isEqualTo(order.getStatusChangedAt());
+                    });
+        }
+
+        @DisplayName("배달 주문은 승인과 같은 트랜잭션에서 배달 요청을 남긴다.")
+        @Test
+        void accept_delivery_writes_delivery_request() {
+            // given
+            final Order order = orderRepository.save(OrderFixture.create(OrderType.DELIVERY, OrderStatus.WAITING));
+
+            // when
+            orderService.accept(order.getId());
+
+            // then
+            assertThat(deliveryRequestRepository.findAll()).singleElement()
+                    .satisfies(deliveryRequest -> {
+                        assertThat(deliveryRequest.getOrderId()).isEqualTo(order.getId());
+                        assertThat(deliveryRequest.getDeliveryAddress()).isEqualTo(order.getDeliveryAddress());
+                        assertThat(deliveryRequest.getAmount()).isEqualByComparingTo(order.getTotalPrice());
+                        assertThat(deliveryRequest.getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+                    });
+            assertThat(events).filteredOn(DeliveryRequestedEvent.class::isInstance).singleElement()
+                    .isInstanceOfSatisfying(DeliveryRequestedEvent.class,
+                            event -> assertThat(event.getOrderId()).isEqualTo(order.getId()));
+        }
+
+        @DisplayName("매장식사, 포장 주문은 배달 요청을 남기지 않는다.")
+        @ParameterizedTest
+        @EnumSource(value = OrderType.class, names = {"EAT_IN", "TAKEOUT"})
+        void accept_not_delivery(OrderType type) {
+            // given
+            final Order order = orderRepository.save(OrderFixture.create(type, OrderStatus.WAITING));
+
+            // when
+            orderService.accept(order.getId());
+
+            // then
+            assertThat(deliveryRequestRepository.findAll()).isEmpty();
         }
 
         @ParameterizedTest(name = "주문 상태가 대기 상태이여야한다. status={0}")
@@ -399,6 +647,27 @@ public class OrderServiceWithFakeTest {
                     assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
                     assertThat(result.getOrderTable().getNumberOfGuests()).isZero();
                     assertThat(result.getOrderTable().isOccupied()).isFalse();
+                    assertThat(result.getOrderTable().getOpenOrderCount()).isZero();
+                    assertThat(result.getCompletedAt()).isNotNull().isEqualTo(result.getStatusChangedAt());
+                });
+            }
+
+            @DisplayName("테이블에 완료되지 않은 다른 주문이 있으면 테이블을 치우지 않는다.")
+            @Test
+            void other_open_order() {
+                // given
+                final OrderTable orderTable = OrderTableFixture.createUsedTable();
+                final Order order = orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.SERVED, orderTable));
+                orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.ACCEPTED, orderTable));
+
+                // when
+                Order result = orderService.complete(order.getId());
+
+                // then
+                assertAll(() -> {
+                    assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                    assertThat(result.getOrderTable().isOccupied()).isTrue();
+                    assertThat(result.getOrderTable().getOpenOrderCount()).isEqualTo(1);
                 });
             }
 
@@ -430,6 +699,30 @@ public class OrderServiceWithFakeTest {
                 assertThat(result.getStatus()).isEqualTo(OrderStatus.COMPLETED);
             }
 
+            @DisplayName("완료되면 매출 집계를 위한 주문 완료 이벤트를 발행한다.")
+            @Test
+            void complete_publishes_completed_event() {
+                // given
+                final Order order = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.SERVED));
+                final OrderLineItem orderLineItem = order.getOrderLineItems().get(0);
+
+                // when
+                orderService.complete(order.getId());
+
+                // then
+                assertThat(events).filteredOn(OrderCompletedEvent.class::isInstance).singleElement()
+                        .isInstanceOfSatisfying(OrderCompletedEvent.class, event -> {
+                            assertThat(event.getOrderId()).isEqualTo(order.getId());
+                            assertThat(event.getType()).isEqualTo(OrderType.TAKEOUT);
+                            assertThat(event.getOrderDate()).isEqualTo(order.getOrderDateTime().toLocalDate());
+                            assertThat(event.getLines()).singleElement().satisfies(line -> {
+                                assertThat(line.getMenuId()).isEqualTo(orderLineItem.getMenu().getId());
+                                assertThat(line.getQuantity()).isEqualTo(orderLineItem.getQuantity());
+                                assertThat(line.getAmount()).isEqualByComparingTo(orderLineItem.getPrice());
+                            });
+                        });
+            }
+
             @ParameterizedTest(name = "주문 상태가 서빙완료 상태이여야한다. status={0}")
             @EnumSource(value = OrderStatus.class, mode = EnumSource.Mode.EXCLUDE, names = "SERVED")
             void order_status_not_served(OrderStatus status) {
@@ -469,4 +762,222 @@ public class OrderServiceWithFakeTest {
             }
         }
     }
+
+    @DisplayName("주문 상태를 전이한다.")
+    @Nested
+    class TransitionTest {
+
+        @DisplayName("주문 타입별 전이 표를 따라 배달 주문을 끝까지 전이한다.")
+        @Test
+        void delivery_flow() {
+            // given
+            final Order order = orderRepository.save(OrderFixture.create(OrderType.DELIVERY, OrderStatus.WAITING));
+
+            // when
+            for (final OrderAction action : OrderAction.values()) {
+                orderService.transition(order.getId(), action);
+            }
+
+            // then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        }
+
+        @ParameterizedTest(name = "전이 표에 없는 전이는 할 수 없다. action={0}")
+        @EnumSource(value = OrderAction.class, names = {"START_DELIVERY", "COMPLETE_DELIVERY"})
+        void undefined_transition(OrderAction action) {
+            // given
+            final Order order = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.SERVED));
+
+            // then
+            assertThatThrownBy(() -> orderService.transition(order.getId(), action)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @DisplayName("주입된 전이 표에 등록한 흐름대로 전이한다.")
+        @Test
+        void custom_flow() {
+            // given
+            final OrderService quickTakeout = orderService(OrderTransitions.standard()
+                    .register(OrderType.TAKEOUT, OrderAction.COMPLETE, OrderStatus.ACCEPTED, OrderStatus.COMPLETED));
+            final Order order = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.ACCEPTED));
+            final Order standardOrder = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.ACCEPTED));
+
+            // when
+            quickTakeout.complete(order.getId());
+
+            // then
+            assertAll(
+                    () -> assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED),
+                    () -> assertThatThrownBy(() -> orderService.complete(standardOrder.getId()))
+                            .isInstanceOf(IllegalStateException.class)
+            );
+        }
+    }
+
+    @DisplayName("여러 주문의 상태를 한 번에 전이한다.")
+    @Nested
+    class TransitionAllTest {
+
+        @DisplayName("주문별로 전이 결과를 반환하고, 전이할 수 없는 주문은 변경하지 않는다.")
+        @Test
+        void transitionAll() {
+            // given
+            final Order accepted = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.ACCEPTED));
+            final Order waiting = orderRepository.save(OrderFixture.create(OrderType.TAKEOUT, OrderStatus.WAITING));
+            final UUID unknownId = UUID.randomUUID();
+            final OrderTransitionRequest request = new OrderTransitionRequest();
+            request.setOrderIds(List.of(accepted.getId(), waiting.getId(), unknownId));
+            request.setAction(OrderAction.SERVE);
+
+            // when
+            final List<OrderTransitionResult> results = orderService.transitionAll(request);
+
+            // then
+            assertAll(() -> {
+                assertThat(results).extracting(OrderTransitionResult::getOrderId)
+                        .containsExactly(accepted.getId(), waiting.getId(), unknownId);
+                assertThat(results).extracting(OrderTransitionResult::isSuccess)
+                        .containsExactly(true, false, false);
+                assertThat(results).extracting(OrderTransitionResult::getError)
+                        .containsExactly(null, "IllegalStateException", "NoSuchElementException");
+                assertThat(accepted.getStatus()).isEqualTo(OrderStatus.SERVED);
+                assertThat(waiting.getStatus()).isEqualTo(OrderStatus.WAITING);
+            });
+        }
+
+        @DisplayName("같은 테이블의 매장 식사 주문을 모두 완료하면 테이블을 치운다.")
+        @Test
+        void complete_all_orders_of_table() {
+            // given
+            final OrderTable orderTable = OrderTableFixture.createUsedTable();
+            final Order first = orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.SERVED, orderTable));
+            final Order second = orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.SERVED, orderTable));
+            final OrderTransitionRequest request = new OrderTransitionRequest();
+            request.setOrderIds(List.of(first.getId(), second.getId()));
+            request.setAction(OrderAction.COMPLETE);
+
+            // when
+            orderService.transitionAll(request);
+
+            // then
+            assertAll(() -> {
+                assertThat(orderTable.getOpenOrderCount()).isZero();
+                assertThat(orderTable.isOccupied()).isFalse();
+            });
+        }
+
+        @DisplayName("주문 목록과 전이 동작은 비어있을 수 없다.")
+        @Test
+        void empty_request() {
+            // given
+            final OrderTransitionRequest request = new OrderTransitionRequest();
+            request.setOrderIds(List.of());
+            request.setAction(OrderAction.SERVE);
+
+            // then
+            assertThatThrownBy(() -> orderService.transitionAll(request)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("주문 목록을 조회한다.")
+    @Nested
+    class FindAllTest {
+
+        @DisplayName("최근 주문부터 지정한 개수만큼 조회하고, 마지막 주문을 커서로 다음 목록을 조회한다.")
+        @Test
+        void findAll_with_cursor() {
+            // given
+            final LocalDateTime now = LocalDateTime.now();
+            final Order oldest = saveOrder(OrderType.TAKEOUT, OrderStatus.WAITING, now.minusMinutes(2));
+            final Order middle = saveOrder(OrderType.TAKEOUT, OrderStatus.WAITING, now.minusMinutes(1));
+            final Order latest = saveOrder(OrderType.TAKEOUT, OrderStatus.WAITING, now);
+            final OrderSearchCondition condition = new OrderSearchCondition();
+            condition.setSize(2);
+
+            // when
+            final List<Order> firstPage = orderService.findAll(condition);
+            final Order last = firstPage.get(firstPage.size() - 1);
+            condition.setCursorOrderDateTime(last.getOrderDateTime());
+            condition.setCursorId(last.getId());
+            final List<Order> secondPage = orderService.findAll(condition);
+
+            // then
+            assertAll(() -> {
+                assertThat(firstPage).containsExactly(latest, middle);
+                assertThat(secondPage).containsExactly(oldest);
+            });
+        }
+
+        @DisplayName("요청하면 보관된 주문도 함께 최근 순으로 조회한다.")
+        @Test
+        void findAll_include_archived() {
+            // given
+            final LocalDateTime now = LocalDateTime.now();
+            final Order archived = saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, now.minusDays(100));
+            orderArchiveRepository.archiveCompletedBefore(now.minusDays(90), 10);
+            final Order hot = saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, now);
+            final OrderSearchCondition condition = new OrderSearchCondition();
+
+            // when
+            final List<Order> withoutArchived = orderService.findAll(condition);
+            condition.setIncludeArchived(true);
+            final List<Order> withArchived = orderService.findAll(condition);
+
+            // then
+            assertAll(() -> {
+                assertThat(withoutArchived).containsExactly(hot);
+                assertThat(withArchived).containsExactly(hot, archived);
+            });
+        }
+
+        @DisplayName("요청하면 보관된 주문도 주문번호로 조회한다.")
+        @Test
+        void findById_include_archived() {
+            // given
+            final Order archived = saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, LocalDateTime.now().minusDays(100));
+            orderArchiveRepository.archiveCompletedBefore(LocalDateTime.now().minusDays(90), 10);
+
+            // then
+            assertAll(() -> {
+                assertThatThrownBy(() -> orderService.findById(archived.getId(), false)).isInstanceOf(NoSuchElementException.class);
+                assertThat(orderService.findById(archived.getId(), true)).isEqualTo(archived);
+            });
+        }
+
+        @DisplayName("주문 상태와 주문 타입으로 조회한다.")
+        @Test
+        void findAll_with_filter() {
+            // given
+            final LocalDateTime now = LocalDateTime.now();
+            final Order expected = saveOrder(OrderType.DELIVERY, OrderStatus.ACCEPTED, now);
+            saveOrder(OrderType.DELIVERY, OrderStatus.WAITING, now);
+            saveOrder(OrderType.TAKEOUT, OrderStatus.ACCEPTED, now);
+            final OrderSearchCondition condition = new OrderSearchCondition();
+            condition.setStatus(OrderStatus.ACCEPTED);
+            condition.setType(OrderType.DELIVERY);
+
+            // when
+            final List<Order> result = orderService.findAll(condition);
+
+            // then
+            assertThat(result).containsExactly(expected);
+        }
+
+        @ParameterizedTest(name = "조회 개수는 1개 이상 최대 개수 이하여야 한다. size={0}")
+        @ValueSource(ints = {0, -1, OrderSearchCondition.MAX_SIZE + 1})
+        void invalid_size(int size) {
+            // given
+            final OrderSearchCondition condition = new OrderSearchCondition();
+            condition.setSize(size);
+
+            // then
+            assertThatThrownBy(() -> orderService.findAll(condition)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private Order saveOrder(final OrderType type, final OrderStatus status, final LocalDateTime orderDateTime) {
+            final Order order = OrderFixture.create(type, status);
+            order.setOrderDateTime(orderDateTime);
+            order.setStatusChangedAt(orderDateTime);
+            return orderRepository.save(order);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderStatusMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderStatusMetrics orderStatusMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderStatusMetrics = new OrderStatusMetrics(meterRegistry);
+    }
+
+    @DisplayName("주문이 이전 상태에 머문 시간을 상태별로 기록한다.")
+    @Test
+    void record() {
+        // given
+        final LocalDateTime acceptedAt = LocalDateTime.of(2022, 9, 1, 12, 0);
+        final LocalDateTime servedAt = acceptedAt.plusMinutes(15);
+
+        // when
+        orderStatusMetrics.record(changed(OrderStatus.SERVED, servedAt, OrderStatus.ACCEPTED, acceptedAt));
+
+        // then
+        final Timer timer = meterRegistry.find("kitchenpos.order.time.in.state")
+                .tag("status", "ACCEPTED")
+                .tag("type", "TAKEOUT")
+                .timer();
+        assertAll(() -> {
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(timer.totalTime(TimeUnit.MINUTES)).isEqualTo(15.0);
+        });
+    }
+
+    @DisplayName("등록 이벤트와 완료 상태에서의 변경은 기록하지 않는다.")
+    @Test
+    void not_measured() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+
+        // when
+        orderStatusMetrics.record(new OrderStatusChangedEvent(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING, now));
+        orderStatusMetrics.record(changed(OrderStatus.COMPLETED, now, OrderStatus.DELIVERED, now.minusMinutes(1)));
+
+        // then
+        assertThat(meterRegistry.find("kitchenpos.order.time.in.state").timers()).isEmpty();
+    }
+
+    private static OrderStatusChangedEvent changed(
+            final OrderStatus status,
+            final LocalDateTime occurredAt,
+            final OrderStatus previousStatus,
+            final LocalDateTime previousStatusChangedAt
+    ) {
+        return new OrderStatusChangedEvent(UUID.randomUUID(), OrderType.TAKEOUT, status, occurredAt, previousStatus, previousStatusChangedAt);
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderTableFixture;
+import kitchenpos.fixture.fake.InMemoryOrderRepository;
+import kitchenpos.fixture.fake.InMemoryOrderTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderTableOpenOrderCountCheckerTest {
+
+    private OrderTableRepository orderTableRepository;
+    private OrderRepository orderRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderTableOpenOrderCountChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        orderTableRepository = new InMemoryOrderTableRepository(orderRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        checker = new OrderTableOpenOrderCountChecker(orderTableRepository, meterRegistry);
+    }
+
+    @DisplayName("테이블의 완료되지 않은 주문 수를 주문 목록으로부터 다시 계산한다.")
+    @Test
+    void rebuild() {
+        // given
+        final OrderTable usedTable = orderTableRepository.save(OrderTableFixture.createUsedTable());
+        orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.SERVED, usedTable));
+        orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.ACCEPTED, usedTable));
+        orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.COMPLETED, usedTable));
+        usedTable.setOpenOrderCount(5);
+        final OrderTable emptyTable = orderTableRepository.save(OrderTableFixture.create(false));
+        emptyTable.setOpenOrderCount(1);
+        final OrderTable consistentTable = orderTableRepository.save(OrderTableFixture.createUsedTable());
+        orderRepository.save(OrderFixture.create(OrderType.EAT_IN, OrderStatus.WAITING, consistentTable));
+        consistentTable.setOpenOrderCount(1);
+
+        // when
+        checker.rebuild();
+
+        // then
+        assertAll(() -> {
+            assertThat(usedTable.getOpenOrderCount()).isEqualTo(2);
+            assertThat(emptyTable.getOpenOrderCount()).isZero();
+            assertThat(consistentTable.getOpenOrderCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("kitchenpos.order-table.open-order-count.drift").count()).isEqualTo(2.0);
+        });
+    }
+}
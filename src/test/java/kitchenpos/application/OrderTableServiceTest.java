@@ -1,9 +1,10 @@
 package kitchenpos.application;
 
 import kitchenpos.fixture.OrderTableFixture;
-import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -29,8 +31,8 @@ class OrderTableServiceTest {
     @Mock
     private OrderTableRepository orderTableRepository;
 
-    @Mock
-    private OrderRepository orderRepository;
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
 
     @InjectMocks
     private OrderTableService orderTableService;
@@ -95,7 +97,6 @@ class OrderTableServiceTest {
             // given
             final OrderTable menu = OrderTableFixture.create("1번 테이블", 5, true);
             given(orderTableRepository.findById(any())).willReturn(Optional.of(menu));
-            given(orderRepository.existsByOrderTableAndStatusNot(any(), any())).willReturn(false);
 
             // when
             OrderTable result = orderTableService.clear(menu.getId());
@@ -112,8 +113,8 @@ class OrderTableServiceTest {
         void not_completed_order_status() {
             // given
             final OrderTable menu = OrderTableFixture.create("1번 테이블", 5, true);
+            menu.setOpenOrderCount(1);
             given(orderTableRepository.findById(any())).willReturn(Optional.of(menu));
-            given(orderRepository.existsByOrderTableAndStatusNot(any(), any())).willReturn(true);
 
             // then
             assertThatThrownBy(() -> orderTableService.clear(menu.getId())).isInstanceOf(IllegalStateException.class);
@@ -10,6 +10,7 @@ import kitchenpos.fixture.OrderFixture;
 import kitchenpos.fixture.OrderTableFixture;
 import kitchenpos.fixture.fake.InMemoryOrderRepository;
 import kitchenpos.fixture.fake.InMemoryOrderTableRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,7 +35,7 @@ public class OrderTableServiceWithFakeTest {
     void setUp() {
         orderTableRepository = new InMemoryOrderTableRepository();
         orderRepository = new InMemoryOrderRepository();
-        orderTableService = new OrderTableService(orderTableRepository, orderRepository);
+        orderTableService = new OrderTableService(orderTableRepository, new UuidV7Generator());
 
         usedTable = OrderTableFixture.create("1번 테이블", 5, true);
         orderTableRepository.save(usedTable);
@@ -0,0 +1,79 @@
+package kitchenpos.application;
+
+import kitchenpos.acceptance.AcceptanceTestConfig;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Product;
+import kitchenpos.fixture.FixtureSaver;
+import kitchenpos.fixture.ProductFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(AcceptanceTestConfig.class)
+@Transactional
+class ProductServiceIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FixtureSaver fixtureSaver;
+
+    @DisplayName("가격을 바꾸면 이미 읽어 둔 메뉴도 바뀐 노출 여부로 다시 읽는다.")
+    @Test
+    void changePrice_hides_loaded_menus() {
+        // given
+        final Product product = fixtureSaver.saveProduct("후라이드", 16_000L);
+        final MenuGroup menuGroup = fixtureSaver.saveMenuGroup("치킨");
+        final Menu overpricedMenu = fixtureSaver.saveMenu("후라이드", 16_000L, menuGroup, product);
+        final Menu discountedMenu = fixtureSaver.saveMenu("후라이드 할인", 12_000L, menuGroup, product);
+        entityManager.flush();
+
+        // when
+        productService.changePrice(product.getId(), ProductFixture.createPriceRequest(12_000L));
+
+        // then
+        assertAll(
+            () -> assertThat(menuRepository.findById(overpricedMenu.getId()).get().isDisplayed()).isFalse(),
+            () -> assertThat(menuRepository.findById(discountedMenu.getId()).get().isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("메뉴를 숨겨도 이미 읽어 둔 제품과 숨기지 않은 메뉴는 영속성 컨텍스트에 남는다.")
+    @Test
+    void changePrice_keeps_unaffected_entities_managed() {
+        // given
+        final Product product = fixtureSaver.saveProduct("후라이드", 16_000L);
+        final MenuGroup menuGroup = fixtureSaver.saveMenuGroup("치킨");
+        final Menu overpricedMenu = fixtureSaver.saveMenu("후라이드", 16_000L, menuGroup, product);
+        final Menu discountedMenu = fixtureSaver.saveMenu("후라이드 할인", 12_000L, menuGroup, product);
+        entityManager.flush();
+
+        // when
+        productService.changePrice(product.getId(), ProductFixture.createPriceRequest(12_000L));
+
+        // then
+        assertAll(
+            () -> assertThat(entityManager.contains(product)).isTrue(),
+            () -> assertThat(entityManager.contains(discountedMenu)).isTrue(),
+            () -> assertThat(overpricedMenu.isDisplayed()).isFalse()
+        );
+    }
+}
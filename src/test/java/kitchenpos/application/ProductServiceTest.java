@@ -1,14 +1,12 @@
 package kitchenpos.application;
 
-import kitchenpos.fixture.MenuGroupFixture;
-import kitchenpos.fixture.MenuProductFixture;
-import kitchenpos.fixture.MenuFixture;
 import kitchenpos.fixture.ProductFixture;
-import kitchenpos.domain.Menu;
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,11 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -42,6 +40,9 @@ class ProductServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Spy
+    private IdGenerator idGenerator = new UuidV7Generator();
+
     @InjectMocks
     private ProductService productService;
 
@@ -114,7 +115,6 @@ class ProductServiceTest {
             Product request = ProductFixture.create("후라이드 치킨", BigDecimal.valueOf(20_000));
 
             given(productRepository.findById(any())).willReturn(Optional.of(request));
-            given(menuRepository.findAllByProductId(any())).willReturn(Collections.emptyList());
 
             // when
             Product product = productService.changePrice(request.getId(), request);
@@ -138,20 +138,14 @@ class ProductServiceTest {
         void hideMenu() {
             // given
             final Product request = ProductFixture.create("후라이드 치킨", BigDecimal.valueOf(10_000));
-            final Menu menu = MenuFixture.create("후라이드 치킨",
-                    BigDecimal.valueOf(15_000),
-                    true,
-                    MenuGroupFixture.createDefault(),
-                    List.of(MenuProductFixture.of(request)));
 
             given(productRepository.findById(any())).willReturn(Optional.of(request));
-            given(menuRepository.findAllByProductId(any())).willReturn(List.of(menu));
 
             // when
             productService.changePrice(request.getId(), request);
 
             // then
-            assertThat(menu.isDisplayed()).isFalse();
+            then(menuRepository).should().hideAllExceedingProductsPrice(request.getId());
         }
     }
 }
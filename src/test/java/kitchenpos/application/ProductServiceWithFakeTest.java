@@ -13,16 +13,26 @@ import kitchenpos.fixture.ProductFixture;
 import kitchenpos.fixture.fake.FakeProfanityClient;
 import kitchenpos.fixture.fake.InMemoryMenuRepository;
 import kitchenpos.fixture.fake.InMemoryProductRepository;
+import kitchenpos.infra.UuidV7Generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 public class ProductServiceWithFakeTest {
@@ -37,7 +47,9 @@ public class ProductServiceWithFakeTest {
         productRepository = new InMemoryProductRepository();
         menuRepository = new InMemoryMenuRepository();
         profanityClient = new FakeProfanityClient();
-        productService = new ProductService(productRepository, menuRepository, profanityClient);
+        productService = new ProductService(
+            productRepository, menuRepository, profanityClient, new UuidV7Generator(), TransactionOperations.withoutTransaction()
+        );
     }
 
     @DisplayName("제품 등록")
@@ -90,6 +102,181 @@ public class ProductServiceWithFakeTest {
         }
     }
 
+    @DisplayName("제품 일괄 등록")
+    @Nested
+    class ImportTest {
+
+        @DisplayName("유효한 행은 등록하고, 유효하지 않은 행은 행 번호와 사유를 응답한다.")
+        @Test
+        void importAll() {
+            // given
+            final String csv = "name,price\n"
+                + "후라이드 치킨,15000\n"
+                + "\"양념, 반반\",17000\n"
+                + ",16000\n"
+                + "간장 치킨,-1000\n"
+                + "마늘 치킨,만원\n"
+                + "욕설 치킨,15000\n"
+                + "파닭\n";
+
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader(csv));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getTotalCount()).isEqualTo(7),
+                () -> assertThat(result.getImportedCount()).isEqualTo(2),
+                () -> assertThat(result.getErrorCount()).isEqualTo(5),
+                () -> assertThat(result.getErrors())
+                    .extracting(ProductImportResult.RowError::getRow, ProductImportResult.RowError::getReason)
+                    .containsExactly(
+                        tuple(3L, ProductImportResult.Reason.INVALID_NAME),
+                        tuple(4L, ProductImportResult.Reason.INVALID_PRICE),
+                        tuple(5L, ProductImportResult.Reason.INVALID_PRICE),
+                        tuple(6L, ProductImportResult.Reason.PROFANITY),
+                        tuple(7L, ProductImportResult.Reason.INVALID_FORMAT)
+                    ),
+                () -> assertThat(productRepository.findAll())
+                    .extracting(Product::getName)
+                    .containsExactlyInAnyOrder("후라이드 치킨", "양념, 반반")
+            );
+        }
+
+        @DisplayName("닫히지 않은 따옴표나 최대 길이를 넘는 행은 형식 오류로 응답하고 다음 행부터 계속 읽는다.")
+        @Test
+        void importAll_malformed_record() {
+            // given
+            final String csv = "name,price\n"
+                + "\"" + "후라이드".repeat(2_000) + "\",15000\n"
+                + "양념 치킨,17000\n"
+                + "\"간장 치킨,16000\n";
+
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader(csv));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getTotalCount()).isEqualTo(3),
+                () -> assertThat(result.getImportedCount()).isEqualTo(1),
+                () -> assertThat(result.getErrors())
+                    .extracting(ProductImportResult.RowError::getRow, ProductImportResult.RowError::getReason)
+                    .containsExactly(
+                        tuple(1L, ProductImportResult.Reason.INVALID_FORMAT),
+                        tuple(3L, ProductImportResult.Reason.INVALID_FORMAT)
+                    ),
+                () -> assertThat(productRepository.findAll())
+                    .extracting(Product::getName)
+                    .containsExactly("양념 치킨")
+            );
+        }
+
+        @DisplayName("묶음마다 별도의 트랜잭션으로 저장한다.")
+        @Test
+        void importAll_transaction_per_chunk() {
+            // given
+            final AtomicInteger transactions = new AtomicInteger();
+            productService = new ProductService(
+                productRepository, menuRepository, profanityClient, new UuidV7Generator(), new TransactionOperations() {
+                    @Override
+                    public <T> T execute(final TransactionCallback<T> action) {
+                        transactions.incrementAndGet();
+                        return action.doInTransaction(new SimpleTransactionStatus());
+                    }
+                }
+            );
+            final StringBuilder csv = new StringBuilder("name,price\n");
+            for (int i = 0; i < 2_500; i++) {
+                csv.append("치킨 ").append(i).append(",15000\n");
+            }
+
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader(csv.toString()));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getImportedCount()).isEqualTo(2_500),
+                () -> assertThat(transactions.get()).isEqualTo(3)
+            );
+        }
+
+        @DisplayName("욕설 검사는 묶음마다 서로 다른 이름을 모아 한 번에 요청한다.")
+        @Test
+        void importAll_screens_names_per_chunk() {
+            // given
+            final List<Collection<String>> screened = new ArrayList<>();
+            productService = new ProductService(
+                productRepository, menuRepository, new FakeProfanityClient() {
+                    @Override
+                    public Set<String> findProfane(final Collection<String> texts) {
+                        screened.add(texts);
+                        return super.findProfane(texts);
+                    }
+                }, new UuidV7Generator(), TransactionOperations.withoutTransaction()
+            );
+            final StringBuilder csv = new StringBuilder("name,price\n");
+            for (int i = 0; i < 1_500; i++) {
+                csv.append(i % 2 == 0 ? "후라이드 치킨" : "욕설 치킨").append(",15000\n");
+            }
+
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader(csv.toString()));
+
+            // then
+            assertAll(
+                () -> assertThat(screened).hasSize(2),
+                () -> assertThat(screened.get(0)).containsExactlyInAnyOrder("후라이드 치킨", "욕설 치킨"),
+                () -> assertThat(result.getImportedCount()).isEqualTo(750)
+            );
+        }
+
+        @DisplayName("오류 행은 앞에서부터 최대 1,000개까지만 응답하고, 전체 오류 수를 함께 응답한다.")
+        @Test
+        void importAll_caps_reported_errors() {
+            // given
+            final StringBuilder csv = new StringBuilder("name,price\n");
+            for (int i = 0; i < 1_200; i++) {
+                csv.append(i % 2 == 0 ? "욕설 치킨,15000" : "양념 치킨,만원").append("\n");
+            }
+
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader(csv.toString()));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getErrorCount()).isEqualTo(1_200),
+                () -> assertThat(result.getErrors()).hasSize(1_000),
+                () -> assertThat(result.getErrors())
+                    .extracting(ProductImportResult.RowError::getRow)
+                    .startsWith(1L, 2L)
+                    .endsWith(1_000L)
+            );
+        }
+
+        @DisplayName("헤더의 열 순서와 상관없이 이름과 가격을 읽는다.")
+        @Test
+        void header_order() {
+            // when
+            final ProductImportResult result = productService.importAll(new StringReader("PRICE,Name\r\n15000,후라이드 치킨\r\n"));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getImportedCount()).isEqualTo(1),
+                () -> assertThat(productRepository.findAll().get(0).getPrice()).isEqualTo(new BigDecimal("15000"))
+            );
+        }
+
+        @DisplayName("헤더에 이름과 가격 열이 없으면 등록할 수 없다.")
+        @Test
+        void missing_header() {
+            assertAll(
+                () -> assertThatThrownBy(() -> productService.importAll(new StringReader("")))
+                    .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> productService.importAll(new StringReader("name,cost\n후라이드,1000\n")))
+                    .isInstanceOf(IllegalArgumentException.class)
+            );
+        }
+    }
+
     @DisplayName("제품의 가격 수정")
     @Nested
     class ChangePriceTest {
@@ -130,6 +317,12 @@ public class ProductServiceWithFakeTest {
                     MenuGroupFixture.createDefault(),
                     List.of(MenuProductFixture.of(product)));
             menuRepository.save(menu);
+            final Menu cheapMenu = MenuFixture.create("후라이드 치킨 할인",
+                    BigDecimal.valueOf(10_000),
+                    true,
+                    MenuGroupFixture.createDefault(),
+                    List.of(MenuProductFixture.of(product)));
+            menuRepository.save(cheapMenu);
 
             final Product request = ProductFixture.createPriceRequest(10_000L);
 
@@ -137,8 +330,10 @@ public class ProductServiceWithFakeTest {
             productService.changePrice(product.getId(), request);
 
             // then
-            Menu result = menuRepository.findById(menu.getId()).get();
-            assertThat(result.isDisplayed()).isFalse();
+            assertAll(
+                () -> assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isFalse(),
+                () -> assertThat(menuRepository.findById(cheapMenu.getId()).get().isDisplayed()).isTrue()
+            );
         }
     }
 }
@@ -0,0 +1,95 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.fake.InMemoryDailySalesRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SalesRollupCollectorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2022, 9, 1);
+
+    private InMemoryDailySalesRollupRepository dailySalesRollupRepository;
+    private SalesRollupCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        dailySalesRollupRepository = new InMemoryDailySalesRollupRepository();
+        collector = new SalesRollupCollector(dailySalesRollupRepository);
+    }
+
+    @DisplayName("완료된 주문을 날짜, 메뉴, 주문 타입별로 모아 바로 반영한다.")
+    @Test
+    void collect() {
+        // given
+        final UUID menuId = UUID.randomUUID();
+
+        // when
+        collector.collect(completed(OrderType.TAKEOUT, TODAY, line(menuId, 2, 30_000), line(menuId, 1, 15_000)));
+        collector.collect(completed(OrderType.TAKEOUT, TODAY, line(menuId, 1, 15_000)));
+        collector.collect(completed(OrderType.DELIVERY, TODAY, line(menuId, 1, 15_000)));
+
+        // then
+        final List<DailySalesRollup> rollups = dailySalesRollupRepository.findAllBySalesDateBetween(TODAY, TODAY);
+        assertAll(() -> {
+            assertThat(rollups).hasSize(2);
+            assertThat(rollups).filteredOn(rollup -> rollup.getId().getOrderType() == OrderType.TAKEOUT).singleElement()
+                    .satisfies(rollup -> {
+                        assertThat(rollup.getOrderCount()).isEqualTo(2);
+                        assertThat(rollup.getQuantity()).isEqualTo(4);
+                        assertThat(rollup.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(60_000));
+                    });
+        });
+    }
+
+    @DisplayName("집계 반영에 실패하면 예외를 던져 주문 완료 트랜잭션과 함께 롤백되게 한다.")
+    @Test
+    void collect_failure() {
+        // given
+        final UUID menuId = UUID.randomUUID();
+        collector = new SalesRollupCollector(new FailingRepository());
+
+        // when
+        // then
+        assertThatThrownBy(() -> collector.collect(completed(OrderType.TAKEOUT, TODAY, line(menuId, 1, 15_000))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static OrderCompletedEvent completed(final OrderType type, final LocalDate orderDate, final OrderCompletedEvent.Line... lines) {
+        return new OrderCompletedEvent(UUID.randomUUID(), type, orderDate, List.of(lines));
+    }
+
+    private static OrderCompletedEvent.Line line(final UUID menuId, final long quantity, final long amount) {
+        return new OrderCompletedEvent.Line(menuId, quantity, BigDecimal.valueOf(amount));
+    }
+
+    private static class FailingRepository implements DailySalesRollupRepository {
+
+        @Override
+        public void addAll(final List<DailySalesRollup> deltas) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int rebuild(final LocalDate salesDate) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public List<DailySalesRollup> findAllBySalesDateBetween(final LocalDate from, final LocalDate to) {
+            return List.of();
+        }
+    }
+}
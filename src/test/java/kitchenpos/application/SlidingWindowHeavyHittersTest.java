@@ -0,0 +1,118 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SlidingWindowHeavyHittersTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @DisplayName("가장 많이 더해진 항목부터 지정한 개수만큼 반환한다.")
+    @Test
+    void top() {
+        // given
+        final SlidingWindowHeavyHitters heavyHitters = heavyHitters(10);
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        final UUID third = UUID.randomUUID();
+        heavyHitters.add(first, 10);
+        heavyHitters.add(second, 5);
+        heavyHitters.add(third, 1);
+        now.addAndGet(MINUTE);
+        heavyHitters.add(second, 3);
+
+        // when
+        final List<SlidingWindowHeavyHitters.Entry> result = heavyHitters.top(2);
+
+        // then
+        assertAll(() -> {
+            assertThat(result).extracting(SlidingWindowHeavyHitters.Entry::getItem).containsExactly(first, second);
+            assertThat(result).extracting(SlidingWindowHeavyHitters.Entry::getCount).containsExactly(10L, 8L);
+        });
+    }
+
+    @DisplayName("시간 구간을 벗어난 수량은 제외한다.")
+    @Test
+    void expired() {
+        // given
+        final SlidingWindowHeavyHitters heavyHitters = heavyHitters(10);
+        final UUID old = UUID.randomUUID();
+        final UUID recent = UUID.randomUUID();
+        heavyHitters.add(old, 100);
+        now.addAndGet(60 * MINUTE);
+        heavyHitters.add(recent, 1);
+
+        // when
+        final List<SlidingWindowHeavyHitters.Entry> result = heavyHitters.top(10);
+
+        // then
+        assertThat(result).extracting(SlidingWindowHeavyHitters.Entry::getItem).containsExactly(recent);
+    }
+
+    @DisplayName("후보가 가득 차면 가장 적게 더해진 후보를 더 많이 더해진 항목으로 바꾼다.")
+    @Test
+    void candidate_capacity() {
+        // given
+        final SlidingWindowHeavyHitters heavyHitters = heavyHitters(2);
+        final UUID first = UUID.randomUUID();
+        final UUID weak = UUID.randomUUID();
+        final UUID heavy = UUID.randomUUID();
+        heavyHitters.add(first, 10);
+        heavyHitters.add(weak, 1);
+        heavyHitters.add(heavy, 5);
+
+        // when
+        final List<SlidingWindowHeavyHitters.Entry> result = heavyHitters.top(2);
+
+        // then
+        assertThat(result).extracting(SlidingWindowHeavyHitters.Entry::getItem).containsExactly(first, heavy);
+    }
+
+    @DisplayName("이미 후보인 항목이 다시 더해지면 가장 약한 후보가 바뀐다.")
+    @Test
+    void candidate_rerank() {
+        // given
+        final SlidingWindowHeavyHitters heavyHitters = heavyHitters(2);
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        final UUID challenger = UUID.randomUUID();
+        heavyHitters.add(first, 1);
+        heavyHitters.add(second, 3);
+        heavyHitters.add(first, 4);
+        heavyHitters.add(challenger, 4);
+
+        // when
+        final List<SlidingWindowHeavyHitters.Entry> result = heavyHitters.top(2);
+
+        // then
+        assertThat(result).extracting(SlidingWindowHeavyHitters.Entry::getItem).containsExactly(first, challenger);
+    }
+
+    @DisplayName("0 이하의 수량은 더할 수 없다.")
+    @Test
+    void invalid_count() {
+        assertThatThrownBy(() -> heavyHitters(10).add(UUID.randomUUID(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("구간 수는 1개 이상이어야 한다.")
+    @Test
+    void invalid_bucket_count() {
+        assertThatThrownBy(() -> new SlidingWindowHeavyHitters(60 * MINUTE, 0, 4, 512, 10, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SlidingWindowHeavyHitters heavyHitters(final int candidateCapacity) {
+        return new SlidingWindowHeavyHitters(60 * MINUTE, 60, 4, 512, candidateCapacity, now::get);
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.fixture.MenuFixture;
+import kitchenpos.fixture.fake.InMemoryMenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TopSellingMenuTrackerTest {
+
+    private InMemoryMenuRepository menuRepository;
+    private TopSellingMenuTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository();
+        tracker = new TopSellingMenuTracker(menuRepository, Duration.ofHours(1), 60, 4, 512, 10);
+    }
+
+    @DisplayName("등록된 주문의 메뉴별 수량으로 많이 주문된 메뉴를 조회한다.")
+    @Test
+    void findTop() {
+        // given
+        final Menu chicken = menuRepository.save(MenuFixture.createDefault());
+        final Menu pizza = menuRepository.save(MenuFixture.createDefault());
+        tracker.record(new OrderCreatedEvent(UUID.randomUUID(), Map.of(chicken.getId(), 1L, pizza.getId(), 3L)));
+        tracker.record(new OrderCreatedEvent(UUID.randomUUID(), Map.of(chicken.getId(), 1L)));
+
+        // when
+        final List<TopSellingMenu> result = tracker.findTop(1);
+
+        // then
+        assertThat(result).singleElement().satisfies(menu -> assertAll(
+                () -> assertThat(menu.getMenuId()).isEqualTo(pizza.getId()),
+                () -> assertThat(menu.getName()).isEqualTo(pizza.getName()),
+                () -> assertThat(menu.getQuantity()).isEqualTo(3L)
+        ));
+    }
+
+    @DisplayName("수량이 0 이하인 메뉴는 집계하지 않는다.")
+    @Test
+    void record_skips_non_positive_quantities() {
+        // given
+        final Menu chicken = menuRepository.save(MenuFixture.createDefault());
+        final Menu pizza = menuRepository.save(MenuFixture.createDefault());
+        tracker.record(new OrderCreatedEvent(UUID.randomUUID(), Map.of(chicken.getId(), 2L, pizza.getId(), -3L)));
+
+        // when
+        final List<TopSellingMenu> result = tracker.findTop(10);
+
+        // then
+        assertThat(result).extracting(TopSellingMenu::getMenuId).containsExactly(chicken.getId());
+    }
+
+    @ParameterizedTest(name = "조회 개수는 1개 이상, 후보 메뉴 수 이하여야 한다. size={0}")
+    @ValueSource(ints = {0, 11})
+    void invalid_size(final int size) {
+        assertThatThrownBy(() -> tracker.findTop(size)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.fixture;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class FixtureSaver {
+
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+
+    public FixtureSaver(
+            final ProductRepository productRepository,
+            final MenuGroupRepository menuGroupRepository,
+            final MenuRepository menuRepository
+    ) {
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    public Product saveProduct(final String name, final long price) {
+        return productRepository.save(ProductFixture.create(name, price));
+    }
+
+    public MenuGroup saveMenuGroup(final String name) {
+        return menuGroupRepository.save(MenuGroupFixture.create(name));
+    }
+
+    public Menu saveMenu() {
+        return saveMenu("후라이드", 16_000L, saveMenuGroup("치킨"), saveProduct("후라이드", 16_000L));
+    }
+
+    public Menu saveMenu(final String name) {
+        return saveMenu(name, 16_000L, saveMenuGroup(name), saveProduct(name, 16_000L));
+    }
+
+    public Menu saveMenu(final String name, final long price, final MenuGroup menuGroup, final Product product) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProduct(product);
+        menuProduct.setQuantity(1L);
+        return menuRepository.save(
+                MenuFixture.create(name, BigDecimal.valueOf(price), true, menuGroup, List.of(menuProduct))
+        );
+    }
+}
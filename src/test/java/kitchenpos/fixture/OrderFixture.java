@@ -6,6 +6,7 @@ import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderType;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -60,12 +61,18 @@ public class OrderFixture {
         final Order order = new Order();
         order.setId(UUID.randomUUID());
         order.setType(type);
-        order.setOrderLineItems(List.of(OrderLineItemFixture.createDefault()));
+        final OrderLineItem orderLineItem = OrderLineItemFixture.createDefault();
+        order.setOrderLineItems(List.of(orderLineItem));
+        order.setTotalPrice(orderLineItem.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity())));
         order.setOrderDateTime(LocalDateTime.now());
+        order.setStatusChangedAt(order.getOrderDateTime());
         order.setStatus(status);
         switch (type) {
             case EAT_IN:
                 order.setOrderTable(orderTable);
+                if (status != OrderStatus.COMPLETED) {
+                    orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + 1);
+                }
                 break;
             case TAKEOUT:
                 break;
@@ -37,6 +37,7 @@ public class OrderLineItemFixture {
         final OrderLineItem orderLineItem = new OrderLineItem();
         orderLineItem.setSeq(1L);
         orderLineItem.setMenu(MenuFixture.createDefault());
+        orderLineItem.setPrice(BigDecimal.valueOf(DEFAULT_PRICE));
         orderLineItem.setQuantity(1L);
         return orderLineItem;
     }
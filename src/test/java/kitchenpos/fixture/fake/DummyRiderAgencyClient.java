@@ -1,8 +1,10 @@
 package kitchenpos.fixture.fake;
 
+import kitchenpos.domain.DeliveryRequest;
 import kitchenpos.domain.RiderAgencyClient;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public class DummyRiderAgencyClient implements RiderAgencyClient {
@@ -11,4 +13,9 @@ public class DummyRiderAgencyClient implements RiderAgencyClient {
     public void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress) {
 
     }
+
+    @Override
+    public void requestDeliveries(List<DeliveryRequest> deliveryRequests) {
+
+    }
 }
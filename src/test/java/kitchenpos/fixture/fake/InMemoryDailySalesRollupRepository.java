@@ -0,0 +1,68 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupId;
+import kitchenpos.domain.DailySalesRollupRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class InMemoryDailySalesRollupRepository implements DailySalesRollupRepository {
+
+    private final Map<DailySalesRollupId, DailySalesRollup> rollups = new HashMap<>();
+    private final OrderRepository orderRepository;
+
+    public InMemoryDailySalesRollupRepository() {
+        this(new InMemoryOrderRepository());
+    }
+
+    public InMemoryDailySalesRollupRepository(final OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public void addAll(List<DailySalesRollup> deltas) {
+        deltas.forEach(delta -> rollups.merge(delta.getId(), delta, DailySalesRollup::plus));
+    }
+
+    @Override
+    public int rebuild(LocalDate salesDate) {
+        rollups.keySet().removeIf(id -> id.getSalesDate().equals(salesDate));
+        final List<Order> orders = orderRepository.findAll().stream()
+                .filter(order -> order.getStatus() == OrderStatus.COMPLETED)
+                .filter(order -> order.getOrderDateTime().toLocalDate().equals(salesDate))
+                .collect(Collectors.toList());
+        final Map<DailySalesRollupId, DailySalesRollup> rebuilt = new HashMap<>();
+        for (final Order order : orders) {
+            final Map<DailySalesRollupId, DailySalesRollup> deltas = new HashMap<>();
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final DailySalesRollupId id = new DailySalesRollupId(salesDate, orderLineItem.getMenu().getId(), order.getType());
+                final BigDecimal amount = orderLineItem.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+                deltas.merge(id, new DailySalesRollup(id, 1, orderLineItem.getQuantity(), amount),
+                        (left, right) -> new DailySalesRollup(id, 1, left.getQuantity() + right.getQuantity(), left.getAmount().add(right.getAmount())));
+            }
+            deltas.values().forEach(delta -> rebuilt.merge(delta.getId(), delta, DailySalesRollup::plus));
+        }
+        rollups.putAll(rebuilt);
+        return rebuilt.size();
+    }
+
+    @Override
+    public List<DailySalesRollup> findAllBySalesDateBetween(LocalDate from, LocalDate to) {
+        return rollups.values().stream()
+                .filter(rollup -> !rollup.getId().getSalesDate().isBefore(from) && !rollup.getId().getSalesDate().isAfter(to))
+                .sorted(Comparator.comparing((DailySalesRollup rollup) -> rollup.getId().getSalesDate())
+                        .thenComparing(rollup -> rollup.getId().getOrderType())
+                        .thenComparing(rollup -> rollup.getId().getMenuId()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
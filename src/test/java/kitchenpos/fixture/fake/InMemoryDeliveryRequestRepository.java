@@ -0,0 +1,107 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class InMemoryDeliveryRequestRepository implements DeliveryRequestRepository {
+
+    private final Map<UUID, DeliveryRequest> deliveryRequests = new ConcurrentHashMap<>();
+
+    @Override
+    public DeliveryRequest save(DeliveryRequest deliveryRequest) {
+        deliveryRequests.put(deliveryRequest.getId(), deliveryRequest);
+        return deliveryRequest;
+    }
+
+    @Override
+    public <S extends DeliveryRequest> List<S> saveAll(Iterable<S> deliveryRequests) {
+        final List<S> saved = new ArrayList<>();
+        for (S deliveryRequest : deliveryRequests) {
+            save(deliveryRequest);
+            saved.add(deliveryRequest);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<DeliveryRequest> findById(UUID id) {
+        return Optional.ofNullable(deliveryRequests.get(id));
+    }
+
+    @Override
+    public List<DeliveryRequest> findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            DeliveryRequestStatus status,
+            LocalDateTime nextAttemptAt,
+            Pageable pageable
+    ) {
+        return deliveryRequests.values().stream()
+                .filter(deliveryRequest -> deliveryRequest.getStatus() == status)
+                .filter(deliveryRequest -> !deliveryRequest.getNextAttemptAt().isAfter(nextAttemptAt))
+                .sorted(Comparator.comparing(DeliveryRequest::getNextAttemptAt))
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public synchronized int claimAll(List<UUID> ids, LocalDateTime now, UUID claimToken, LocalDateTime leaseUntil) {
+        int claimed = 0;
+        for (UUID id : ids) {
+            final DeliveryRequest deliveryRequest = deliveryRequests.get(id);
+            if (deliveryRequest != null
+                    && deliveryRequest.getStatus() == DeliveryRequestStatus.PENDING
+                    && !deliveryRequest.getNextAttemptAt().isAfter(now)) {
+                deliveryRequest.setClaimToken(claimToken);
+                deliveryRequest.setNextAttemptAt(leaseUntil);
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized List<DeliveryRequest> findAllByClaimToken(UUID claimToken) {
+        return deliveryRequests.values().stream()
+                .filter(deliveryRequest -> claimToken.equals(deliveryRequest.getClaimToken()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int completeClaim(UUID claimToken, DeliveryRequestStatus status) {
+        final List<DeliveryRequest> claimed = findAllByClaimToken(claimToken);
+        claimed.forEach(deliveryRequest -> {
+            deliveryRequest.setStatus(status);
+            deliveryRequest.setAttempts(deliveryRequest.getAttempts() + 1);
+            deliveryRequest.setClaimToken(null);
+        });
+        return claimed.size();
+    }
+
+    @Override
+    public synchronized int releaseClaim(UUID claimToken, int attempts, LocalDateTime nextAttemptAt) {
+        final List<DeliveryRequest> claimed = findAllByClaimToken(claimToken).stream()
+                .filter(deliveryRequest -> deliveryRequest.getAttempts() == attempts)
+                .collect(Collectors.toList());
+        claimed.forEach(deliveryRequest -> {
+            deliveryRequest.setAttempts(attempts + 1);
+            deliveryRequest.setNextAttemptAt(nextAttemptAt);
+            deliveryRequest.setClaimToken(null);
+        });
+        return claimed.size();
+    }
+
+    public List<DeliveryRequest> findAll() {
+        return new ArrayList<>(deliveryRequests.values());
+    }
+}
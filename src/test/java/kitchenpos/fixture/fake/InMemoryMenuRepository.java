@@ -3,6 +3,7 @@ package kitchenpos.fixture.fake;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,4 +45,19 @@ public class InMemoryMenuRepository implements MenuRepository {
                 .filter(menu -> menu.getMenuProducts().stream().anyMatch(menuProduct -> menuProduct.getProduct().getId().equals(productId)))
                 .collect(Collectors.toUnmodifiableList());
     }
+
+    @Override
+    public int hideAllExceedingProductsPrice(UUID productId) {
+        int hidden = 0;
+        for (final Menu menu : findAllByProductId(productId)) {
+            final BigDecimal sum = menu.getMenuProducts().stream()
+                    .map(menuProduct -> menuProduct.getProduct().getPrice().multiply(BigDecimal.valueOf(menuProduct.getQuantity())))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (menu.isDisplayed() && menu.getPrice().compareTo(sum) > 0) {
+                menu.setDisplayed(false);
+                hidden++;
+            }
+        }
+        return hidden;
+    }
 }
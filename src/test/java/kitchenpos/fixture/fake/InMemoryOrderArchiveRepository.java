@@ -0,0 +1,72 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class InMemoryOrderArchiveRepository implements OrderArchiveRepository {
+
+    private final InMemoryOrderRepository orderRepository;
+    private final Map<UUID, Order> orders = new HashMap<>();
+
+    public InMemoryOrderArchiveRepository(InMemoryOrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public int archiveCompletedBefore(LocalDateTime completedBefore, int limit) {
+        final List<Order> archivable = orderRepository.findAll().stream()
+                .filter(order -> order.getStatus() == OrderStatus.COMPLETED)
+                .filter(order -> order.getStatusChangedAt().isBefore(completedBefore))
+                .sorted(Comparator.comparing(Order::getStatusChangedAt).thenComparing(Order::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+        archivable.forEach(order -> {
+            orders.put(order.getId(), order);
+            orderRepository.delete(order);
+        });
+        return archivable.size();
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    @Override
+    public List<Order> findAllByCursor(
+            OrderType type,
+            UUID orderTableId,
+            LocalDateTime cursorOrderDateTime,
+            UUID cursorId,
+            int size
+    ) {
+        final Comparator<Order> latestFirst = Comparator.comparing(Order::getOrderDateTime)
+                .thenComparing(Order::getId)
+                .reversed();
+        return orders.values().stream()
+                .filter(order -> type == null || order.getType() == type)
+                .filter(order -> orderTableId == null
+                        || (order.getOrderTable() != null && orderTableId.equals(order.getOrderTable().getId())))
+                .filter(order -> cursorOrderDateTime == null
+                        || order.getOrderDateTime().isBefore(cursorOrderDateTime)
+                        || (order.getOrderDateTime().isEqual(cursorOrderDateTime) && order.getId().compareTo(cursorId) < 0))
+                .sorted(latestFirst)
+                .limit(size)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<Order> findAll() {
+        return List.copyOf(orders.values());
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.OrderIdempotencyKey;
+import kitchenpos.domain.OrderIdempotencyKeyRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class InMemoryOrderIdempotencyKeyRepository implements OrderIdempotencyKeyRepository {
+
+    private final Map<String, OrderIdempotencyKey> orderIdempotencyKeys = new HashMap<>();
+
+    @Override
+    public boolean insertIfAbsent(OrderIdempotencyKey orderIdempotencyKey) {
+        return orderIdempotencyKeys.putIfAbsent(orderIdempotencyKey.getIdempotencyKey(), orderIdempotencyKey) == null;
+    }
+
+    @Override
+    public Optional<OrderIdempotencyKey> findById(String idempotencyKey) {
+        return Optional.ofNullable(orderIdempotencyKeys.get(idempotencyKey));
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdAt, int limit) {
+        final List<String> expired = orderIdempotencyKeys.values().stream()
+                .filter(orderIdempotencyKey -> orderIdempotencyKey.getCreatedAt().isBefore(createdAt))
+                .limit(limit)
+                .map(OrderIdempotencyKey::getIdempotencyKey)
+                .collect(Collectors.toList());
+        expired.forEach(orderIdempotencyKeys::remove);
+        return expired.size();
+    }
+}
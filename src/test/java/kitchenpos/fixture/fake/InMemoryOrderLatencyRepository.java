@@ -0,0 +1,65 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLatency;
+import kitchenpos.domain.OrderLatencyBucket;
+import kitchenpos.domain.OrderLatencyRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class InMemoryOrderLatencyRepository implements OrderLatencyRepository {
+
+    private final InMemoryOrderRepository orderRepository;
+
+    public InMemoryOrderLatencyRepository(InMemoryOrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public List<OrderLatencyBucket> findHistogramEndedBetween(OrderLatency latency, LocalDateTime from, LocalDateTime to) {
+        final Function<Order, LocalDateTime> start = start(latency);
+        final Function<Order, LocalDateTime> end = end(latency);
+        return orderRepository.findAll().stream()
+                .filter(order -> Objects.nonNull(start.apply(order)) && Objects.nonNull(end.apply(order)))
+                .filter(order -> !end.apply(order).isBefore(from) && end.apply(order).isBefore(to))
+                .collect(Collectors.groupingBy(
+                        order -> Duration.between(start.apply(order), end.apply(order)).toMillis(),
+                        TreeMap::new,
+                        Collectors.counting()
+                ))
+                .entrySet()
+                .stream()
+                .map(entry -> new OrderLatencyBucket(entry.getValue(), entry.getKey()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Function<Order, LocalDateTime> start(OrderLatency latency) {
+        switch (latency) {
+            case PREPARATION:
+                return Order::getAcceptedAt;
+            case DELIVERY:
+                return Order::getDeliveryStartedAt;
+            default:
+                return Order::getOrderDateTime;
+        }
+    }
+
+    private static Function<Order, LocalDateTime> end(OrderLatency latency) {
+        switch (latency) {
+            case ACCEPT:
+                return Order::getAcceptedAt;
+            case PREPARATION:
+                return Order::getServedAt;
+            case DELIVERY:
+                return Order::getDeliveredAt;
+            default:
+                return Order::getCompletedAt;
+        }
+    }
+}
@@ -3,14 +3,19 @@ package kitchenpos.fixture.fake;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderRepository;
 import kitchenpos.domain.OrderStatus;
-import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class InMemoryOrderRepository implements OrderRepository {
 
@@ -22,6 +27,15 @@ public class InMemoryOrderRepository implements OrderRepository {
         return order;
     }
 
+    @Override
+    public void insertAll(List<Order> orders) {
+        orders.forEach(this::save);
+    }
+
+    public void delete(Order order) {
+        orders.remove(order.getId());
+    }
+
     @Override
     public Optional<Order> findById(UUID id) {
         return Optional.ofNullable(orders.get(id));
@@ -33,8 +47,40 @@ public class InMemoryOrderRepository implements OrderRepository {
     }
 
     @Override
-    public boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status) {
+    public List<Order> findAllByIdIn(List<UUID> ids) {
+        return orders.values().stream()
+                .filter(order -> ids.contains(order.getId()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public Stream<Order> streamAllBy() {
+        return orders.values().stream()
+                .sorted(Comparator.comparing(Order::getOrderDateTime).thenComparing(Order::getId));
+    }
+
+    @Override
+    public List<Order> findAllByCursor(
+            OrderStatus status,
+            OrderType type,
+            UUID orderTableId,
+            LocalDateTime cursorOrderDateTime,
+            UUID cursorId,
+            Pageable pageable
+    ) {
+        final Comparator<Order> latestFirst = Comparator.comparing(Order::getOrderDateTime)
+                .thenComparing(Order::getId)
+                .reversed();
         return orders.values().stream()
-                .anyMatch(order -> order.getOrderTable().equals(orderTable) && order.getStatus() != (status));
+                .filter(order -> status == null || order.getStatus() == status)
+                .filter(order -> type == null || order.getType() == type)
+                .filter(order -> orderTableId == null
+                        || (order.getOrderTable() != null && orderTableId.equals(order.getOrderTable().getId())))
+                .filter(order -> cursorOrderDateTime == null
+                        || order.getOrderDateTime().isBefore(cursorOrderDateTime)
+                        || (order.getOrderDateTime().isEqual(cursorOrderDateTime) && order.getId().compareTo(cursorId) < 0))
+                .sorted(latestFirst)
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toUnmodifiableList());
     }
 }
@@ -1,5 +1,7 @@
 package kitchenpos.fixture.fake;
 
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 
@@ -9,10 +11,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class InMemoryOrderTableRepository implements OrderTableRepository {
 
     private final Map<UUID, OrderTable> orderTables = new HashMap<>();
+    private final OrderRepository orderRepository;
+
+    public InMemoryOrderTableRepository() {
+        this(new InMemoryOrderRepository());
+    }
+
+    public InMemoryOrderTableRepository(final OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
 
     @Override
     public OrderTable save(OrderTable orderTable) {
@@ -29,4 +41,27 @@ public class InMemoryOrderTableRepository implements OrderTableRepository {
     public List<OrderTable> findAll() {
         return new ArrayList<>(orderTables.values());
     }
+
+    @Override
+    public List<OrderTable> findAllByIdIn(List<UUID> ids) {
+        return orderTables.values().stream()
+                .filter(orderTable -> ids.contains(orderTable.getId()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public int reconcileOpenOrderCounts() {
+        final Map<UUID, Long> openOrderCounts = orderRepository.findAll().stream()
+                .filter(order -> order.getOrderTable() != null && order.getStatus() != OrderStatus.COMPLETED)
+                .collect(Collectors.groupingBy(order -> order.getOrderTable().getId(), Collectors.counting()));
+        int reconciled = 0;
+        for (final OrderTable orderTable : orderTables.values()) {
+            final int openOrderCount = openOrderCounts.getOrDefault(orderTable.getId(), 0L).intValue();
+            if (orderTable.getOpenOrderCount() != openOrderCount) {
+                orderTable.setOpenOrderCount(openOrderCount);
+                reconciled++;
+            }
+        }
+        return reconciled;
+    }
 }
@@ -21,6 +21,11 @@ public class InMemoryProductRepository implements ProductRepository {
         return product;
     }
 
+    @Override
+    public void insertAll(List<Product> products) {
+        products.forEach(this::save);
+    }
+
     @Override
     public Optional<Product> findById(UUID id) {
         return Optional.ofNullable(products.get(id));
@@ -0,0 +1,66 @@
+package kitchenpos.fixture.fake;
+
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.RiderAgencyClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class StubRiderAgencyClient implements RiderAgencyClient {
+
+    private final Duration latency;
+    private final List<UUID> requestedOrderIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile boolean failing;
+
+    public StubRiderAgencyClient(final Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress) {
+        call();
+        requestedOrderIds.add(orderId);
+    }
+
+    @Override
+    public void requestDeliveries(List<DeliveryRequest> deliveryRequests) {
+        call();
+        requestedOrderIds.addAll(deliveryRequests.stream()
+                .map(DeliveryRequest::getOrderId)
+                .collect(Collectors.toList()));
+    }
+
+    private void call() {
+        calls.incrementAndGet();
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failing) {
+            throw new IllegalStateException();
+        }
+    }
+
+    public void setFailing(final boolean failing) {
+        this.failing = failing;
+    }
+
+    public List<UUID> getRequestedOrderIds() {
+        return requestedOrderIds;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    public int getSavedCalls() {
+        return requestedOrderIds.size() - calls.get();
+    }
+}
@@ -0,0 +1,104 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AhoCorasickProfanityClientTest {
+
+    private final AhoCorasickProfanityClient profanityClient = new AhoCorasickProfanityClient(
+        List.of("시발", "개새끼", "ㅅㅂ", "fuck", "shit", "cunt"),
+        List.of("시발점", "scunthorpe", "shitake")
+    );
+
+    @DisplayName("금칙어가 포함된 한국어와 영어 문장을 찾는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"시발 치킨", "양념개새끼", "ㅅㅂ", "Fuck chicken", "holy SHIT"})
+    void contains(final String text) {
+        assertThat(profanityClient.containsProfanity(text)).isTrue();
+    }
+
+    @DisplayName("공백, 문장 부호, 전각 문자와 숫자로 바꾼 금칙어도 찾는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"시 발", "개-새-끼", "ㅅ.ㅂ", "f u c k", "F.U.C.K", "sh1t", "$hit", "ｆｕｃｋ"})
+    void contains_normalized(final String text) {
+        assertThat(profanityClient.containsProfanity(text)).isTrue();
+    }
+
+    @DisplayName("금칙어가 없는 문장은 통과시킨다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "후라이드 치킨", "양념 반 후라이드 반", "Fried chicken", "시원한 발포 와인"})
+    void clean(final String text) {
+        assertThat(profanityClient.containsProfanity(text)).isFalse();
+    }
+
+    @DisplayName("허용 단어 안에 있거나 단어 경계를 넘어 이어진 금칙어는 욕설로 보지 않는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"시발점 치킨", "역전 시발점", "Scunthorpe sausage", "shitake pizza", "스시 발사믹 샐러드", "마시 발효주"})
+    void clean_false_positive(final String text) {
+        assertThat(profanityClient.containsProfanity(text)).isFalse();
+    }
+
+    @DisplayName("허용 단어 옆에 따로 쓰인 금칙어와 띄어 쓴 금칙어 단어는 여전히 찾는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"시발점 시발", "시발 시발점", "shitake shit", "시 발 치킨", "치킨 f u c k"})
+    void contains_next_to_allowed(final String text) {
+        assertThat(profanityClient.containsProfanity(text)).isTrue();
+    }
+
+    @DisplayName("실패 링크를 따라 다른 금칙어의 접미사로 끝나는 금칙어도 찾는다.")
+    @Test
+    void suffix() {
+        // given
+        final AhoCorasickProfanityClient client = new AhoCorasickProfanityClient(List.of("he", "she", "hers"));
+
+        // when & then
+        assertAll(() -> {
+            assertThat(client.containsProfanity("ushe")).isTrue();
+            assertThat(client.containsProfanity("ahe")).isTrue();
+            assertThat(client.containsProfanity("shrs")).isFalse();
+        });
+    }
+
+    @DisplayName("배포되는 금칙어와 허용 단어 목록으로 알려진 오탐 이름을 통과시킨다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"시발점 치킨", "시발역 떡볶이", "Scunthorpe sausage", "shitake pizza", "시발택시 모형"})
+    void bundled_allowed_words(final String text) {
+        // given
+        final AhoCorasickProfanityClient client = AhoCorasickProfanityClient.load(
+            new ClassPathResource("profanity/words.txt"),
+            new ClassPathResource("profanity/allowed-words.txt")
+        );
+
+        // then
+        assertThat(client.containsProfanity(text)).isFalse();
+    }
+
+    @DisplayName("빈 줄과 주석을 제외한 금칙어 목록을 읽는다.")
+    @Test
+    void load() {
+        // given
+        final ByteArrayResource words = new ByteArrayResource(
+            "# 주석\n\n병신\n  bitch  \n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        final AhoCorasickProfanityClient client = AhoCorasickProfanityClient.load(words);
+
+        // then
+        assertAll(() -> {
+            assertThat(client.containsProfanity("병 신")).isTrue();
+            assertThat(client.containsProfanity("BITCH")).isTrue();
+            assertThat(client.containsProfanity("주석")).isFalse();
+        });
+    }
+}
@@ -0,0 +1,147 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.ProfanityClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CachingProfanityClientTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final ProfanityClient delegate = text -> {
+        calls.add(text);
+        return text.contains("욕설");
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingProfanityClient profanityClient = new CachingProfanityClient(
+        delegate, 2, Duration.ofMinutes(1), Duration.ofMinutes(10), now::get, meterRegistry
+    );
+
+    @DisplayName("같은 문장을 다시 검사하면 캐시된 결과를 반환한다.")
+    @Test
+    void hit() {
+        // when
+        profanityClient.containsProfanity("후라이드치킨");
+        profanityClient.containsProfanity("욕설치킨");
+        final boolean clean = profanityClient.containsProfanity("후라이드치킨");
+        final boolean profane = profanityClient.containsProfanity("욕설치킨");
+
+        // then
+        assertAll(() -> {
+            assertThat(clean).isFalse();
+            assertThat(profane).isTrue();
+            assertThat(calls).containsExactly("후라이드치킨", "욕설치킨");
+            assertThat(count("hit")).isEqualTo(2);
+            assertThat(count("miss")).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("금칙어가 없다는 결과는 별도의 더 짧은 유효 기간 동안 캐시한다.")
+    @Test
+    void expire() {
+        // given
+        profanityClient.containsProfanity("후라이드치킨");
+        profanityClient.containsProfanity("욕설치킨");
+
+        // when
+        now.set(Duration.ofMinutes(1).toMillis());
+        profanityClient.containsProfanity("후라이드치킨");
+        profanityClient.containsProfanity("욕설치킨");
+
+        // then
+        assertThat(calls).containsExactly("후라이드치킨", "욕설치킨", "후라이드치킨");
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 문장부터 제거한다.")
+    @Test
+    void evict_least_recently_used() {
+        // given
+        profanityClient.containsProfanity("후라이드치킨");
+        profanityClient.containsProfanity("양념치킨");
+        profanityClient.containsProfanity("후라이드치킨");
+
+        // when
+        profanityClient.containsProfanity("간장치킨");
+        profanityClient.containsProfanity("후라이드치킨");
+        profanityClient.containsProfanity("양념치킨");
+
+        // then
+        assertAll(() -> {
+            assertThat(calls).containsExactly("후라이드치킨", "양념치킨", "간장치킨", "양념치킨");
+            assertThat(meterRegistry.get("kitchenpos.profanity.cache.evictions").counter().count()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("캐시에 없는 같은 문장을 동시에 검사하면 한 번만 검사한다.")
+    @Test
+    void coalesce_misses() throws InterruptedException {
+        // given
+        final CountDownLatch checking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CachingProfanityClient slow = new CachingProfanityClient(
+            text -> {
+                calls.add(text);
+                checking.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            },
+            2, Duration.ofMinutes(1), Duration.ofMinutes(10), now::get, new SimpleMeterRegistry()
+        );
+        final int threads = 4;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> slow.containsProfanity("후라이드치킨"));
+        }
+        checking.await(5, TimeUnit.SECONDS);
+        release.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(calls).containsExactly("후라이드치킨");
+    }
+
+    @DisplayName("검사에 실패하면 캐시하지 않는다.")
+    @Test
+    void failure_is_not_cached() {
+        // given
+        final CachingProfanityClient failing = new CachingProfanityClient(
+            text -> {
+                calls.add(text);
+                throw new IllegalStateException();
+            },
+            2, Duration.ofMinutes(1), Duration.ofMinutes(10), now::get, new SimpleMeterRegistry()
+        );
+
+        // when & then
+        assertAll(() -> {
+            assertThatThrownBy(() -> failing.containsProfanity("후라이드치킨")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> failing.containsProfanity("후라이드치킨")).isInstanceOf(IllegalStateException.class);
+            assertThat(calls).hasSize(2);
+        });
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("kitchenpos.profanity.cache.gets").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,88 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), now::get);
+
+    @DisplayName("연속으로 실패한 횟수가 기준에 도달하면 열리고 호출을 막는다.")
+    @Test
+    void open() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertAll(() -> {
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        });
+    }
+
+    @DisplayName("성공하면 연속 실패 횟수를 초기화한다.")
+    @Test
+    void success_resets_failures() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("열린 시간이 지나면 한 번의 시험 호출만 허용하고, 성공하면 닫힌다.")
+    @Test
+    void half_open_success() {
+        // given
+        open(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        // when
+        final boolean trial = circuitBreaker.tryAcquirePermission();
+        final boolean another = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertAll(() -> {
+            assertThat(trial).isTrue();
+            assertThat(another).isFalse();
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        });
+    }
+
+    @DisplayName("시험 호출이 실패하면 다시 열린다.")
+    @Test
+    void half_open_failure() {
+        // given
+        open(circuitBreaker);
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertAll(() -> {
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        });
+    }
+
+    private static void open(final CircuitBreaker circuitBreaker) {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+    }
+}
@@ -0,0 +1,206 @@
+package kitchenpos.infra;
+
+import kitchenpos.acceptance.AcceptanceTestConfig;
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.DailySalesRollup;
+import kitchenpos.domain.DailySalesRollupId;
+import kitchenpos.domain.DailySalesRollupRepository;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.fixture.FixtureSaver;
+import kitchenpos.fixture.OrderFixture;
+import kitchenpos.fixture.OrderLineItemFixture;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(AcceptanceTestConfig.class)
+@ActiveProfiles("mysql")
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+    private static final String SEEDED_ORDER_ID = "69d78f383bff457cbb7226319c985fd8";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.30");
+
+    @DynamicPropertySource
+    static void datasource(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private DailySalesRollupRepository dailySalesRollupRepository;
+
+    @Autowired
+    private FixtureSaver fixtureSaver;
+
+    @DisplayName("모든 마이그레이션이 MySQL 에 적용되고 엔티티 매핑과 스키마가 일치한다.")
+    @Test
+    void migrate() {
+        assertAll(
+            () -> assertThat(flyway.info().pending()).isEmpty(),
+            () -> assertThat(flyway.info().applied())
+                .isNotEmpty()
+                .allMatch(info -> info.getState() == MigrationState.SUCCESS)
+        );
+    }
+
+    @DisplayName("기존 주문 항목의 가격은 메뉴 가격으로, 주문 총액은 주문 항목 합계로 채운다.")
+    @Test
+    void backfill_order_prices() {
+        // when
+        final long mismatchedLineItems = count(
+            "select count(*) from order_line_item oli join menu m on m.id = oli.menu_id where oli.price <> m.price"
+        );
+        final long mismatchedOrders = count(
+            "select count(*) from orders o where o.total_price <> (select coalesce(sum(oli.price * oli.quantity), 0)"
+                + " from order_line_item oli where oli.order_id = o.id)"
+        );
+        final BigDecimal seededTotalPrice = jdbcTemplate.queryForObject(
+            "select o.total_price from orders o where o.id = unhex(?)", BigDecimal.class, SEEDED_ORDER_ID
+        );
+
+        // then
+        assertAll(
+            () -> assertThat(mismatchedLineItems).isZero(),
+            () -> assertThat(mismatchedOrders).isZero(),
+            () -> assertThat(seededTotalPrice).isPositive()
+        );
+    }
+
+    @DisplayName("기존 주문 테이블의 열린 주문 수는 완료되지 않은 주문 수로 채운다.")
+    @Test
+    void backfill_open_order_count() {
+        // when
+        final long mismatched = count(
+            "select count(*) from order_table t where t.open_order_count <> (select count(*) from orders o"
+                + " where o.order_table_id = t.id and o.status <> 'COMPLETED')"
+        );
+
+        // then
+        assertThat(mismatched).isZero();
+    }
+
+    @DisplayName("시퀀스 테이블은 기존 seq 보다 큰 값에서 시작해 새 주문 항목과 메뉴 상품이 기존 행과 겹치지 않는다.")
+    @Test
+    void seed_sequences() {
+        // given
+        final long seededLineItemSeq = count("select coalesce(max(seq), 0) from order_line_item");
+        final long seededMenuProductSeq = count("select coalesce(max(seq), 0) from menu_product");
+
+        // when
+        final Menu menu = fixtureSaver.saveMenu();
+        final Order order = createOrder(menu);
+
+        // then
+        assertAll(
+            () -> assertThat(count("select next_val from order_line_item_seq")).isGreaterThan(seededLineItemSeq),
+            () -> assertThat(count("select next_val from menu_product_seq")).isGreaterThan(seededMenuProductSeq),
+            () -> assertThat(order.getOrderLineItems().get(0).getSeq()).isGreaterThan(seededLineItemSeq),
+            () -> assertThat(menu.getMenuProducts().get(0).getSeq()).isGreaterThan(seededMenuProductSeq)
+        );
+    }
+
+    @DisplayName("같은 날짜, 메뉴, 주문 유형의 매출 집계는 기존 행에 더한다.")
+    @Test
+    void addAll_upsert() {
+        // given
+        final DailySalesRollupId id = new DailySalesRollupId(LocalDate.of(2020, 1, 1), UUID.randomUUID(), OrderType.TAKEOUT);
+        final DailySalesRollup delta = new DailySalesRollup(id, 1L, 2L, BigDecimal.valueOf(32_000L));
+
+        // when
+        dailySalesRollupRepository.addAll(List.of(delta));
+        dailySalesRollupRepository.addAll(List.of(delta));
+
+        // then
+        final DailySalesRollup actual = dailySalesRollupRepository
+            .findAllBySalesDateBetween(id.getSalesDate(), id.getSalesDate()).stream()
+            .filter(rollup -> rollup.getId().equals(id))
+            .findFirst()
+            .get();
+        assertAll(
+            () -> assertThat(actual.getOrderCount()).isEqualTo(2L),
+            () -> assertThat(actual.getQuantity()).isEqualTo(4L),
+            () -> assertThat(actual.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(64_000L))
+        );
+    }
+
+    @DisplayName("완료된 주문을 마이그레이션으로 만든 보관 테이블로 옮긴다.")
+    @Test
+    void archiveCompletedBefore() {
+        // given
+        final LocalDateTime completedAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        final Order order = createOrder(fixtureSaver.saveMenu());
+        orderService.accept(order.getId());
+        orderService.serve(order.getId());
+        orderService.complete(order.getId());
+        jdbcTemplate.update(
+            "update orders set status_changed_at = ?, completed_at = ? where id = ?",
+            completedAt, completedAt, toBytes(order.getId())
+        );
+
+        // when
+        final int archived = orderArchiveRepository.archiveCompletedBefore(completedAt.plusDays(1), 10);
+
+        // then
+        assertAll(
+            () -> assertThat(archived).isEqualTo(1),
+            () -> assertThat(orderArchiveRepository.findById(order.getId())).isPresent()
+        );
+    }
+
+    private Order createOrder(final Menu menu) {
+        return orderService.create(
+            OrderFixture.createRequest(OrderType.TAKEOUT, List.of(OrderLineItemFixture.createRequest(menu.getId(), menu.getPrice().longValue())))
+        );
+    }
+
+    private long count(final String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+}
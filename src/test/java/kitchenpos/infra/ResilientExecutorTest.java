@@ -0,0 +1,182 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class ResilientExecutorTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(100);
+    private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch hang = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, OPEN_DURATION, now::get);
+    private final ResilientExecutor executor = new ResilientExecutor("stub", 1, TIMEOUT, circuitBreaker, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        hang.countDown();
+        callers.shutdownNow();
+        executor.destroy();
+    }
+
+    @DisplayName("호출 결과를 그대로 반환한다.")
+    @Test
+    void call() {
+        // when
+        final String result = executor.call(() -> "ok");
+
+        // then
+        assertAll(() -> {
+            assertThat(result).isEqualTo("ok");
+            assertThat(count("success")).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("응답하지 않는 호출은 제한 시간이 지나면 실패한다.")
+    @Test
+    void timeout() {
+        assertTimeout(TIMEOUT.multipliedBy(5), () ->
+                assertThatThrownBy(() -> executor.call(this::hang)).isInstanceOf(IllegalStateException.class)
+        );
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @DisplayName("호출에서 발생한 예외는 그대로 전달한다.")
+    @Test
+    void failure() {
+        assertThatThrownBy(() -> executor.call(() -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(count("failure")).isEqualTo(1);
+    }
+
+    @DisplayName("동시에 처리중인 호출이 최대 개수만큼 있으면 바로 거절한다.")
+    @Test
+    void bulkhead_full() throws InterruptedException {
+        // given
+        final CountDownLatch started = new CountDownLatch(1);
+        callers.submit(() -> executor.call(() -> {
+            started.countDown();
+            return hang();
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        // then
+        assertThatThrownBy(() -> executor.call(() -> "ok")).isInstanceOf(IllegalStateException.class);
+        assertThat(count("bulkhead_full")).isEqualTo(1);
+    }
+
+    @DisplayName("연속으로 실패하면 서킷이 열려 호출하지 않고 바로 거절한다.")
+    @Test
+    void circuit_open() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> executor.call(() -> {
+                throw new IllegalStateException();
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        assertAll(() -> {
+            assertThatThrownBy(() -> executor.call(() -> "ok")).isInstanceOf(IllegalStateException.class);
+            assertThat(count("circuit_open")).isEqualTo(1);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        });
+    }
+
+    @DisplayName("반열림 상태에서 호출하던 스레드가 인터럽트되면 실패로 기록해 서킷을 다시 연다.")
+    @Test
+    void half_open_interrupted() throws InterruptedException {
+        // given
+        openCircuit();
+        now.addAndGet(OPEN_DURATION.toMillis());
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread caller = new Thread(() -> assertThatThrownBy(() -> executor.call(() -> {
+            started.countDown();
+            return hang();
+        })).isInstanceOf(IllegalStateException.class));
+        caller.start();
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(1));
+
+        // then
+        assertAll(() -> {
+            assertThat(count("interrupted")).isEqualTo(1);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        });
+    }
+
+    @DisplayName("반열림 상태에서 호출이 실행기에 거절되면 실패로 기록해 서킷을 다시 연다.")
+    @Test
+    void half_open_rejected() {
+        // given
+        openCircuit();
+        now.addAndGet(OPEN_DURATION.toMillis());
+        executor.destroy();
+
+        // when
+        // then
+        assertAll(() -> {
+            assertThatThrownBy(() -> executor.call(() -> "ok")).isInstanceOf(RejectedExecutionException.class);
+            assertThat(count("rejected")).isEqualTo(1);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        });
+    }
+
+    @DisplayName("반열림 상태의 호출이 성공하면 서킷을 닫는다.")
+    @Test
+    void half_open_success() {
+        // given
+        openCircuit();
+        now.addAndGet(OPEN_DURATION.toMillis());
+
+        // when
+        executor.call(() -> "ok");
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> executor.call(() -> {
+                throw new IllegalStateException();
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private String hang() throws InterruptedException {
+        hang.await();
+        return "late";
+    }
+
+    private long count(final String outcome) {
+        return meterRegistry.get("kitchenpos.dependency.calls")
+                .tag("dependency", "stub")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
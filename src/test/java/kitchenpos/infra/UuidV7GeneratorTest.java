@@ -0,0 +1,60 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class UuidV7GeneratorTest {
+
+    private final UuidV7Generator idGenerator = new UuidV7Generator();
+
+    @DisplayName("버전 7, IETF variant 의 UUID 를 생성한다.")
+    @Test
+    void version() {
+        // when
+        final UUID id = idGenerator.generate();
+
+        // then
+        assertAll(() -> {
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+        });
+    }
+
+    @DisplayName("UUID 의 앞 48비트는 생성 시각의 밀리초이다.")
+    @Test
+    void timestamp() {
+        // given
+        final long before = System.currentTimeMillis();
+
+        // when
+        final UUID id = idGenerator.generate();
+
+        // then
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @DisplayName("같은 밀리초 안에서도 생성 순서대로 정렬된다.")
+    @Test
+    void monotonic() {
+        // given
+        final List<UUID> ids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(idGenerator.generate());
+        }
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates()
+            .isSortedAccordingTo(Comparator.comparing(UUID::getMostSignificantBits)
+                .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned));
+    }
+}
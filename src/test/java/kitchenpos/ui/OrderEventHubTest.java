@@ -0,0 +1,126 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class OrderEventHubTest {
+
+    private OrderEventHub orderEventHub;
+
+    @BeforeEach
+    void setUp() {
+        orderEventHub = new OrderEventHub(2, 2, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventHub.destroy();
+    }
+
+    @DisplayName("구독한 모든 클라이언트에게 이벤트를 순서대로 전달한다.")
+    @Test
+    void publish() {
+        // given
+        final RecordingEmitter first = new RecordingEmitter(3);
+        final RecordingEmitter second = new RecordingEmitter(3);
+        orderEventHub.subscribe(first);
+        orderEventHub.subscribe(second);
+
+        // when
+        orderEventHub.publish(event(OrderStatus.WAITING));
+        orderEventHub.publish(event(OrderStatus.ACCEPTED));
+        orderEventHub.publish(event(OrderStatus.SERVED));
+
+        // then
+        first.await();
+        second.await();
+        assertThat(first.sent).hasSize(3);
+        assertThat(second.sent).hasSize(3);
+    }
+
+    @DisplayName("버퍼가 가득 찬 느린 클라이언트는 구독이 해지되고, 다른 클라이언트는 계속 이벤트를 받는다.")
+    @Test
+    void evict_slow_consumer() {
+        // given
+        final BlockingEmitter slow = new BlockingEmitter();
+        final RecordingEmitter fast = new RecordingEmitter(4);
+        orderEventHub.subscribe(slow);
+        orderEventHub.subscribe(fast);
+
+        // when
+        orderEventHub.publish(event(OrderStatus.WAITING));
+        slow.awaitBlocked();
+        orderEventHub.publish(event(OrderStatus.ACCEPTED));
+        orderEventHub.publish(event(OrderStatus.SERVED));
+        orderEventHub.publish(event(OrderStatus.COMPLETED));
+        slow.release();
+
+        // then
+        fast.await();
+        assertThat(orderEventHub.subscriberCount()).isEqualTo(1);
+        assertThat(fast.sent).hasSize(4);
+    }
+
+    private OrderStatusChangedEvent event(final OrderStatus status) {
+        return new OrderStatusChangedEvent(UUID.randomUUID(), OrderType.TAKEOUT, status, LocalDateTime.now());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private RecordingEmitter(final int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) {
+            sent.add(builder);
+            latch.countDown();
+        }
+
+        private void await() {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> latch.await());
+        }
+    }
+
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void send(final SseEventBuilder builder) {
+            blocked.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void awaitBlocked() {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> blocked.await());
+        }
+
+        private void release() {
+            released.countDown();
+        }
+    }
+}
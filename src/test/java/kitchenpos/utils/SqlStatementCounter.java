@@ -0,0 +1,36 @@
+package kitchenpos.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final Queue<String> statements = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static long countStartingWith(String prefix) {
+        return statements.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .count();
+    }
+
+    public static long countMatching(Predicate<String> predicate) {
+        return statements.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(predicate)
+                .count();
+    }
+}
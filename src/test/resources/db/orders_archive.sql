@@ -0,0 +1,35 @@
+-- The archive tables have no entities, so ddl-auto does not create them on H2. This mirrors the archive parts of
+-- db/migration V10__Add_orders_archive.sql, V12__Add_status_changed_at_to_orders.sql and
+-- V13__Add_transition_times_to_orders.sql; change it together with those migrations.
+create table if not exists orders_archive
+(
+    id                  binary(16)     not null,
+    delivery_address    varchar(255),
+    order_date_time     timestamp(6)   not null,
+    status_changed_at   timestamp(6)   not null,
+    total_price         decimal(19, 2) not null,
+    status              varchar(255)   not null,
+    type                varchar(255)   not null,
+    order_table_id      binary(16),
+    accepted_at         timestamp(6),
+    served_at           timestamp(6),
+    delivery_started_at timestamp(6),
+    delivered_at        timestamp(6),
+    completed_at        timestamp(6),
+    archived_at         timestamp(6)   not null,
+    primary key (id)
+);
+
+create table if not exists order_line_item_archive
+(
+    seq      bigint         not null,
+    price    decimal(19, 2) not null,
+    quantity bigint         not null,
+    menu_id  binary(16)     not null,
+    order_id binary(16)     not null,
+    primary key (seq)
+);
+
+truncate table order_line_item_archive;
+
+truncate table orders_archive;